@@ -1,9 +1,24 @@
 package com.my.coin;
 
+import com.my.coin.audit.AuditProperties;
+import com.my.coin.feed.FeedProperties;
+import com.my.coin.importer.ImportProperties;
+import com.my.coin.outbox.OutboxProperties;
+import com.my.coin.persistence.replica.ReplicaProperties;
+import com.my.coin.ratelimit.RateLimitProperties;
+import com.my.coin.sequencer.SequencerProperties;
+import com.my.coin.service.RetentionProperties;
+import com.my.coin.statement.StatementProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableConfigurationProperties({RateLimitProperties.class, AuditProperties.class, FeedProperties.class,
+        SequencerProperties.class, ImportProperties.class, StatementProperties.class, RetentionProperties.class,
+        ReplicaProperties.class, OutboxProperties.class})
+@EnableScheduling
 public class KataCoinApplication {
 
   public static void main(String[] args) {
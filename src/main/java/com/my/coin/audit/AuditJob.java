@@ -0,0 +1,32 @@
+package com.my.coin.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "ledger.audit.enabled", havingValue = "true")
+public class AuditJob {
+
+  private static final Logger log = LoggerFactory.getLogger(AuditJob.class);
+
+  private final LedgerAuditor auditor;
+
+  public AuditJob(LedgerAuditor auditor) {
+    this.auditor = auditor;
+  }
+
+  @Scheduled(fixedDelayString = "${ledger.audit.interval:PT1H}", initialDelayString = "${ledger.audit.interval:PT1H}")
+  public void run() {
+    AuditReport report = auditor.audit();
+    if (report.consistent()) {
+      log.info("Ledger audit passed: {} transactions in {} ms", report.transactions(), report.durationMillis());
+    } else {
+      log.warn("Ledger audit found discrepancies: stored balance {}, history balance {}, ranges {}",
+              report.storedBalance(), report.historyBalance(),
+              report.ranges().stream().filter(range -> !range.discrepancies().isEmpty()).toList());
+    }
+  }
+}
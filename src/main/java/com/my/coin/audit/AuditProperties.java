@@ -0,0 +1,25 @@
+package com.my.coin.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code parallelism} and {@code ranges} of 0 mean one worker per core and four ranges per worker.
+ */
+@ConfigurationProperties("ledger.audit")
+public record AuditProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("PT1H") Duration interval,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("0") int ranges) {
+
+  public int effectiveParallelism() {
+    return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  public int effectiveRanges() {
+    return ranges > 0 ? ranges : effectiveParallelism() * 4;
+  }
+}
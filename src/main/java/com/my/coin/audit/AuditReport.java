@@ -0,0 +1,15 @@
+package com.my.coin.audit;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record AuditReport(
+        LocalDateTime auditedAt,
+        long durationMillis,
+        long transactions,
+        BigDecimal storedBalance,
+        BigDecimal historyBalance,
+        boolean consistent,
+        List<RangeAudit> ranges) {
+}
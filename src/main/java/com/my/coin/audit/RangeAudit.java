@@ -0,0 +1,13 @@
+package com.my.coin.audit;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record RangeAudit(
+        String range,
+        long transactions,
+        BigDecimal openingBalance,
+        BigDecimal closingBalance,
+        BigDecimal lowestBalance,
+        List<String> discrepancies) {
+}
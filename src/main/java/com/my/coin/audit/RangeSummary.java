@@ -0,0 +1,31 @@
+package com.my.coin.audit;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.service.HistorySlice;
+
+import java.math.BigDecimal;
+
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+
+/**
+ * What one range contributes, relative to its own start: total, lowest running total and invalid rows.
+ */
+record RangeSummary(String range, long transactions, BigDecimal sum, BigDecimal lowestPrefix, long invalidAmounts) {
+
+  static RangeSummary of(HistorySlice slice) {
+    long count = 0;
+    long invalid = 0;
+    BigDecimal sum = BigDecimal.ZERO;
+    BigDecimal lowest = BigDecimal.ZERO;
+    for (Transaction transaction : slice.read()) {
+      count++;
+      if (transaction.amount() == null || transaction.amount().signum() <= 0) {
+        invalid++;
+        continue;
+      }
+      sum = transaction.type() == DEPOSIT ? sum.add(transaction.amount()) : sum.subtract(transaction.amount());
+      lowest = lowest.min(sum);
+    }
+    return new RangeSummary(slice.range(), count, sum, lowest, invalid);
+  }
+}
@@ -0,0 +1,27 @@
+package com.my.coin.config;
+
+import com.my.coin.service.store.ColumnarTransactionStore;
+import com.my.coin.service.store.ListTransactionStore;
+import com.my.coin.service.store.TransactionStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Storage for the in-memory ledger, selected with {@code ledger.memory.store=list|columnar}.
+ */
+@Configuration
+public class LedgerStoreConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(name = "ledger.memory.store", havingValue = "list", matchIfMissing = true)
+  public TransactionStore listTransactionStore() {
+    return new ListTransactionStore();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "ledger.memory.store", havingValue = "columnar")
+  public TransactionStore columnarTransactionStore() {
+    return new ColumnarTransactionStore();
+  }
+}
@@ -0,0 +1,30 @@
+package com.my.coin.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.coin.outbox.FileOutboxSink;
+import com.my.coin.outbox.InMemoryOutboxSink;
+import com.my.coin.outbox.OutboxProperties;
+import com.my.coin.outbox.OutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Where the outbox relay delivers, selected with {@code ledger.outbox.sink=file|memory}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ledger.outbox.enabled", havingValue = "true")
+public class OutboxSinkConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(name = "ledger.outbox.sink", havingValue = "file", matchIfMissing = true)
+  public OutboxSink fileOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+    return new FileOutboxSink(properties.file(), objectMapper);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "ledger.outbox.sink", havingValue = "memory")
+  public InMemoryOutboxSink inMemoryOutboxSink(OutboxProperties properties) {
+    return new InMemoryOutboxSink(properties.memoryCapacity());
+  }
+}
@@ -0,0 +1,62 @@
+package com.my.coin.config;
+
+import com.my.coin.persistence.replica.ReplicaProperties;
+import com.my.coin.persistence.replica.ReplicaRoutingDataSource;
+import com.my.coin.persistence.replica.ReplicaSynchronizer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * With {@code ledger.replica.enabled=true} the application datasource routes read-only transactions to a
+ * replica with a pool of its own, so history reads can't take the connections deposits and withdrawals need.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ledger.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration {
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+    HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    dataSource.setPoolName("ledger-primary");
+    return dataSource;
+  }
+
+  @Bean
+  public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName("ledger-replica");
+    dataSource.setJdbcUrl(properties.url());
+    dataSource.setUsername(properties.username());
+    dataSource.setPassword(properties.password());
+    dataSource.setMaximumPoolSize(properties.poolSize());
+    return dataSource;
+  }
+
+  @Bean
+  public ReplicaSynchronizer replicaSynchronizer(@Qualifier("primaryDataSource") DataSource primary,
+                                                 @Qualifier("replicaDataSource") DataSource replica,
+                                                 ReplicaProperties properties) {
+    return new ReplicaSynchronizer(primary, replica, properties);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                               @Qualifier("replicaDataSource") DataSource replica,
+                               ReplicaSynchronizer synchronizer) {
+    LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+    dataSource.setReadOnlyDataSource(
+            new ReplicaRoutingDataSource(primary, replica, synchronizer::isCaughtUp, synchronizer::isFresh));
+    return dataSource;
+  }
+}
@@ -0,0 +1,46 @@
+package com.my.coin.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Defers the springdoc/swagger beans until the API docs are first requested, so they stay off the
+ * startup path. Enabled with {@code ledger.startup.lazy-springdoc=true}.
+ */
+@Component
+public class SpringdocLazyInitialization implements BeanFactoryPostProcessor, EnvironmentAware {
+
+  private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+  private boolean enabled;
+
+  @Override
+  public void setEnvironment(Environment environment) {
+    this.enabled = environment.getProperty("ledger.startup.lazy-springdoc", Boolean.class, false);
+  }
+
+  @Override
+  public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+    if (!enabled) {
+      return;
+    }
+    for (String name : beanFactory.getBeanDefinitionNames()) {
+      BeanDefinition definition = beanFactory.getBeanDefinition(name);
+      if (isSpringdoc(definition)) {
+        definition.setLazyInit(true);
+      }
+    }
+  }
+
+  private boolean isSpringdoc(BeanDefinition definition) {
+    String type = definition.getBeanClassName() != null
+            ? definition.getBeanClassName()
+            : definition.getResolvableType().resolve(Object.class).getName();
+    String factory = definition.getFactoryBeanName();
+    return type.startsWith(SPRINGDOC_PACKAGE) || (factory != null && factory.startsWith(SPRINGDOC_PACKAGE));
+  }
+}
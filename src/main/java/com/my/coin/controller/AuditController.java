@@ -0,0 +1,28 @@
+package com.my.coin.controller;
+
+import com.my.coin.audit.AuditReport;
+import com.my.coin.audit.LedgerAuditor;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/ledger")
+public class AuditController {
+
+  private final LedgerAuditor auditor;
+
+  public AuditController(LedgerAuditor auditor) {
+    this.auditor = auditor;
+  }
+
+  @Operation(summary = "Reconcile the stored balance against the transaction history")
+  @ApiResponse(responseCode = "200", description = "Returns the audit report with per-range discrepancies")
+  @GetMapping("/audit")
+  public ResponseEntity<AuditReport> audit() {
+    return ResponseEntity.ok(auditor.audit());
+  }
+}
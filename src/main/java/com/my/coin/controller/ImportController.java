@@ -0,0 +1,43 @@
+package com.my.coin.controller;
+
+import com.my.coin.importer.ImportFormat;
+import com.my.coin.importer.ImportReport;
+import com.my.coin.importer.LedgerImporter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.Reader;
+
+@RestController
+@RequestMapping("/api/ledger")
+public class ImportController {
+
+  private static final String NDJSON = "application/x-ndjson";
+
+  private final LedgerImporter importer;
+
+  public ImportController(LedgerImporter importer) {
+    this.importer = importer;
+  }
+
+  @Operation(summary = "Bulk import historical transactions from a CSV or NDJSON body")
+  @ApiResponse(responseCode = "200", description = "Returns rows imported and throughput")
+  @ApiResponse(responseCode = "400", description = "Invalid row; the message says how many lines were committed")
+  @PostMapping(value = "/import", consumes = {"text/csv", NDJSON})
+  public ResponseEntity<ImportReport> importTransactions(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                         @RequestParam(defaultValue = "0") long skipLines,
+                                                         Reader body) {
+    ImportFormat format = contentType.isCompatibleWith(MediaType.parseMediaType(NDJSON))
+            ? ImportFormat.NDJSON
+            : ImportFormat.CSV;
+    return ResponseEntity.ok(importer.importStream(body, format, skipLines));
+  }
+}
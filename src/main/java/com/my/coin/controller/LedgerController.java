@@ -5,6 +5,7 @@ import com.my.coin.controller.dto.BalanceResponse;
 import com.my.coin.controller.dto.ValidationError;
 import com.my.coin.domain.Transaction;
 import com.my.coin.service.LedgerService;
+import com.my.coin.service.LedgerVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -31,8 +33,11 @@ public class LedgerController {
 
   private final LedgerService service;
 
-  public LedgerController(LedgerService service) {
+  private final LedgerVersion version;
+
+  public LedgerController(LedgerService service, LedgerVersion version) {
     this.service = service;
+    this.version = version;
   }
 
   @Operation(summary = "Deposit money to the ledger")
@@ -96,17 +101,26 @@ public class LedgerController {
 
   @Operation(summary = "Get current balance")
   @ApiResponse(responseCode = "200", description = "Returns current balance")
+  @ApiResponse(responseCode = "304", description = "Balance unchanged since the ETag in If-None-Match")
   @GetMapping("/balance")
-  public ResponseEntity<BalanceResponse> balance(@RequestParam Optional<String> fromDate) {
+  public ResponseEntity<BalanceResponse> balance(@RequestParam Optional<String> fromDate, WebRequest request) {
       Optional<LocalDateTime> dateOption = fromDate.map(
               dateStr -> LocalDate.parse(dateStr, DateTimeFormatter.ofPattern(DATE_FORMAT)).atStartOfDay());
+      String tag = version.tag(fromDate.map(date -> "balance-" + date).orElse("balance"));
+      if (request.checkNotModified(tag)) {
+        return null;
+      }
        return ResponseEntity.ok(new BalanceResponse(service.getBalance(dateOption)));
   }
 
   @Operation(summary = "Get transaction history")
   @ApiResponse(responseCode = "200", description = "Returns transaction list in reverse order")
+  @ApiResponse(responseCode = "304", description = "History unchanged since the ETag in If-None-Match")
   @GetMapping("/transactions")
-  public ResponseEntity<List<Transaction>> transactions() {
+  public ResponseEntity<List<Transaction>> transactions(WebRequest request) {
+    if (request.checkNotModified(version.tag("transactions"))) {
+      return null;
+    }
     return ResponseEntity.ok(service.getTransactions());
   }
 
@@ -0,0 +1,31 @@
+package com.my.coin.controller;
+
+import com.my.coin.feed.LedgerFeed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/ledger")
+public class LedgerFeedController {
+
+  private final LedgerFeed feed;
+
+  public LedgerFeedController(LedgerFeed feed) {
+    this.feed = feed;
+  }
+
+  @Operation(summary = "Stream committed transactions and the resulting balance as Server-Sent Events")
+  @ApiResponse(responseCode = "200", description = "Event stream; reconnect with Last-Event-ID to resume")
+  @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter stream(@RequestHeader("Last-Event-ID") Optional<String> lastEventId) {
+    return feed.subscribe(lastEventId);
+  }
+}
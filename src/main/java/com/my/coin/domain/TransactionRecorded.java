@@ -0,0 +1,8 @@
+package com.my.coin.domain;
+
+/**
+ * Published by the ledgers for every transaction they record; listeners that need the committed state
+ * should listen after commit.
+ */
+public record TransactionRecorded(Transaction transaction) {
+}
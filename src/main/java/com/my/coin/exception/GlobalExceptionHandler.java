@@ -20,6 +20,16 @@ public class GlobalExceptionHandler {
     return ResponseEntity.badRequest().body(ex.getMessage());
   }
 
+  @ExceptionHandler(HistoryNotRetainedException.class)
+  public ResponseEntity<String> handleHistoryNotRetained(HistoryNotRetainedException ex) {
+    return ResponseEntity.badRequest().body(ex.getMessage());
+  }
+
+  @ExceptionHandler(ImportException.class)
+  public ResponseEntity<String> handleImport(ImportException ex) {
+    return ResponseEntity.badRequest().body(ex.getMessage());
+  }
+
   @ExceptionHandler(IllegalArgumentException.class)
   public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException ex) {
     return ResponseEntity.badRequest().body(ex.getMessage());
@@ -0,0 +1,7 @@
+package com.my.coin.exception;
+
+public class HistoryNotRetainedException extends RuntimeException {
+  public HistoryNotRetainedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,19 @@
+package com.my.coin.exception;
+
+/**
+ * An import stopped at a row; everything before {@code committedLines} is recorded and the import can be
+ * resumed from there.
+ */
+public class ImportException extends RuntimeException {
+
+  private final long committedLines;
+
+  public ImportException(String message, long committedLines, Throwable cause) {
+    super(message, cause);
+    this.committedLines = committedLines;
+  }
+
+  public long getCommittedLines() {
+    return committedLines;
+  }
+}
@@ -0,0 +1,15 @@
+package com.my.coin.feed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code capacity} (a power of two) is how far a subscriber may fall behind before it is dropped.
+ */
+@ConfigurationProperties("ledger.feed")
+public record FeedProperties(
+        @DefaultValue("4096") int capacity,
+        @DefaultValue("PT15S") Duration heartbeat) {
+}
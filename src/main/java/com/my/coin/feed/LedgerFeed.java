@@ -0,0 +1,147 @@
+package com.my.coin.feed;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
+import com.my.coin.service.LedgerHistory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+
+/**
+ * Fans committed transactions out to SSE subscribers from a {@link RingBuffer}. Each subscriber drains the
+ * buffer on its own virtual thread, so a slow one only delays itself; one that falls a full buffer behind
+ * is told where the buffer now starts and disconnected, and may reconnect from there.
+ * Event ids are {@code <epoch>-<sequence>} with an epoch random per process: sequences restart at 0 after a
+ * restart, so an id from another epoch, or one ahead of the buffer, replays what is buffered after a
+ * {@code reset} event rather than waiting for the counter to catch up.
+ */
+@Component
+public class LedgerFeed {
+
+  record Start(long from, boolean reset) {
+  }
+
+  private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+  private final FeedProperties properties;
+  private final RingBuffer<LedgerUpdate> buffer;
+  private final Set<Thread> subscribers = ConcurrentHashMap.newKeySet();
+  private BigDecimal balance;
+
+  public LedgerFeed(LedgerHistory history, FeedProperties properties) {
+    this.properties = properties;
+    this.buffer = new RingBuffer<>(properties.capacity());
+    this.balance = history.storedBalance();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRecorded(TransactionRecorded event) {
+    Transaction transaction = event.transaction();
+    synchronized (this) {
+      balance = transaction.type() == DEPOSIT
+              ? balance.add(transaction.amount())
+              : balance.subtract(transaction.amount());
+      BigDecimal current = balance;
+      buffer.publish(sequence -> new LedgerUpdate(sequence, transaction, current));
+    }
+    subscribers.forEach(LockSupport::unpark);
+  }
+
+  /**
+   * Streams updates after {@code lastEventId} when given (as sent in {@code Last-Event-ID}), otherwise from now on.
+   */
+  public SseEmitter subscribe(Optional<String> lastEventId) {
+    SseEmitter emitter = new SseEmitter(0L);
+    Start start = startAfter(lastEventId);
+    Thread subscriber = Thread.ofVirtual().name("ledger-feed-subscriber").unstarted(() -> stream(emitter, start));
+    emitter.onCompletion(subscriber::interrupt);
+    emitter.onError(error -> subscriber.interrupt());
+    subscriber.start();
+    return emitter;
+  }
+
+  Start startAfter(Optional<String> lastEventId) {
+    long next = buffer.nextSequence();
+    if (lastEventId.isEmpty()) {
+      return new Start(next, false);
+    }
+    String prefix = epoch + "-";
+    String id = lastEventId.get();
+    try {
+      long lastSeen = id.startsWith(prefix) ? Long.parseLong(id.substring(prefix.length())) : Long.MAX_VALUE;
+      if (lastSeen < next) {
+        return new Start(lastSeen + 1, false);
+      }
+    } catch (NumberFormatException malformed) {
+      // treated like an id from another process
+    }
+    return new Start(Math.max(0, next - buffer.capacity()), true);
+  }
+
+  private void stream(SseEmitter emitter, Start start) {
+    Thread current = Thread.currentThread();
+    subscribers.add(current);
+    long cursor = start.from();
+    long heartbeatNanos = properties.heartbeat().toNanos();
+    try {
+      emitter.send(SseEmitter.event().comment("subscribed"));
+      if (start.reset()) {
+        emitter.send(SseEmitter.event()
+                .name("reset")
+                .data(Map.of("resumeFrom", eventId(cursor)), MediaType.APPLICATION_JSON));
+      }
+      while (!current.isInterrupted()) {
+        LedgerUpdate update = buffer.read(cursor);
+        if (update != null) {
+          emitter.send(SseEmitter.event()
+                  .id(eventId(update.sequence()))
+                  .name("transaction")
+                  .data(update, MediaType.APPLICATION_JSON));
+          cursor++;
+        } else if (buffer.isOverwritten(cursor)) {
+          emitter.send(SseEmitter.event()
+                  .name("overrun")
+                  .data(Map.of("resumeFrom", eventId(buffer.nextSequence() - buffer.capacity())),
+                          MediaType.APPLICATION_JSON));
+          break;
+        } else {
+          long parkedAt = System.nanoTime();
+          LockSupport.parkNanos(heartbeatNanos);
+          if (System.nanoTime() - parkedAt >= heartbeatNanos) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+          }
+        }
+      }
+      emitter.complete();
+    } catch (IOException | IllegalStateException disconnected) {
+      emitter.completeWithError(disconnected);
+    } finally {
+      subscribers.remove(current);
+    }
+  }
+
+  String eventId(long sequence) {
+    return epoch + "-" + sequence;
+  }
+
+  int subscriberCount() {
+    return subscribers.size();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    subscribers.forEach(Thread::interrupt);
+  }
+}
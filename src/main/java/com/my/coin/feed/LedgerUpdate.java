@@ -0,0 +1,8 @@
+package com.my.coin.feed;
+
+import com.my.coin.domain.Transaction;
+
+import java.math.BigDecimal;
+
+public record LedgerUpdate(long sequence, Transaction transaction, BigDecimal balance) {
+}
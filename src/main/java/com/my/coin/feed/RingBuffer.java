@@ -0,0 +1,53 @@
+package com.my.coin.feed;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * Fixed-size, overwrite-oldest buffer addressed by ever-increasing sequence numbers. Writers never wait
+ * for readers: a reader that falls more than {@code capacity} entries behind finds its entry overwritten.
+ */
+public class RingBuffer<T> {
+
+  private final AtomicReferenceArray<Entry<T>> entries;
+  private final int mask;
+  private final AtomicLong next = new AtomicLong();
+
+  public RingBuffer(int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a positive power of two");
+    }
+    this.entries = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+  }
+
+  public long publish(LongFunction<T> factory) {
+    long sequence = next.getAndIncrement();
+    entries.set((int) (sequence & mask), new Entry<>(sequence, factory.apply(sequence)));
+    return sequence;
+  }
+
+  /**
+   * @return the entry at {@code sequence}, or null when it is not published yet or already overwritten
+   */
+  public T read(long sequence) {
+    Entry<T> entry = entries.get((int) (sequence & mask));
+    return entry != null && entry.sequence() == sequence ? entry.value() : null;
+  }
+
+  public boolean isOverwritten(long sequence) {
+    return sequence < next.get() - capacity();
+  }
+
+  public long nextSequence() {
+    return next.get();
+  }
+
+  public int capacity() {
+    return mask + 1;
+  }
+
+  private record Entry<T>(long sequence, T value) {
+  }
+}
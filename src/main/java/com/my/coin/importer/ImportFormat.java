@@ -0,0 +1,20 @@
+package com.my.coin.importer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum ImportFormat {
+  CSV,
+  NDJSON;
+
+  public static ImportFormat forFile(Path file) {
+    String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    if (name.endsWith(".csv")) {
+      return CSV;
+    }
+    if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+      return NDJSON;
+    }
+    throw new IllegalArgumentException("Unsupported import file " + file + ", expected .csv, .ndjson or .jsonl");
+  }
+}
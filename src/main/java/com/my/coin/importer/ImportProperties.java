@@ -0,0 +1,13 @@
+package com.my.coin.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code batchSize} rows are recorded per ledger call (one transaction for the JPA ledger); the checkpoint
+ * advances after each batch.
+ */
+@ConfigurationProperties("ledger.import")
+public record ImportProperties(
+        @DefaultValue("1000") int batchSize) {
+}
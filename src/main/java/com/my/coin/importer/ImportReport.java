@@ -0,0 +1,10 @@
+package com.my.coin.importer;
+
+public record ImportReport(
+        long rows,
+        long batches,
+        long resumedFromLine,
+        long linesCommitted,
+        long durationMillis,
+        long rowsPerSecond) {
+}
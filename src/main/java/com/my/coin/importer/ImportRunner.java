@@ -0,0 +1,40 @@
+package com.my.coin.importer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * Imports every {@code --import=<file>} given on the command line at startup; combine with
+ * {@code --spring.main.web-application-type=none} to exit once done. A failed import fails startup, and
+ * running the same command again resumes it.
+ */
+@Component
+public class ImportRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(ImportRunner.class);
+
+  static final String OPTION = "import";
+
+  private final LedgerImporter importer;
+
+  public ImportRunner(LedgerImporter importer) {
+    this.importer = importer;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!args.containsOption(OPTION)) {
+      return;
+    }
+    for (String file : args.getOptionValues(OPTION)) {
+      ImportReport report = importer.importFile(Path.of(file));
+      log.info("Imported {} rows from {} in {} ms ({} rows/s, resumed from line {})", report.rows(), file,
+              report.durationMillis(), report.rowsPerSecond(), report.resumedFromLine());
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.my.coin.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.coin.domain.Transaction;
+import com.my.coin.exception.ImportException;
+import com.my.coin.service.LedgerService;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongConsumer;
+
+/**
+ * Streams transactions from CSV or NDJSON into the ledger in batches of {@link ImportProperties#batchSize()}.
+ * Progress is counted in lines: after each recorded batch the number of lines consumed so far is
+ * checkpointed, and an import resumed from a checkpoint skips that many lines.
+ * <p>
+ * The checkpoint is written after the batch is recorded, so a crash between the two replays at most one
+ * batch. The first batch of every run therefore leaves out ids the ledger already holds.
+ */
+@Service
+public class LedgerImporter {
+
+  static final String CHECKPOINT_SUFFIX = ".offset";
+
+  private final LedgerService ledger;
+  private final TransactionRowParser parser;
+  private final int batchSize;
+
+  public LedgerImporter(LedgerService ledger, ObjectMapper objectMapper, ImportProperties properties) {
+    this.ledger = ledger;
+    this.parser = new TransactionRowParser(objectMapper);
+    this.batchSize = properties.batchSize();
+  }
+
+  /**
+   * Imports a file, resuming from {@code <file>.offset} when a previous run left one; the checkpoint is
+   * removed once the whole file is in.
+   */
+  public ImportReport importFile(Path file) {
+    Path checkpoint = file.resolveSibling(file.getFileName() + CHECKPOINT_SUFFIX);
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      ImportReport report = importLines(reader, ImportFormat.forFile(file), readCheckpoint(checkpoint),
+              lines -> writeCheckpoint(checkpoint, lines));
+      Files.deleteIfExists(checkpoint);
+      return report;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Imports from a stream, skipping the first {@code skipLines} lines; the caller keeps track of progress.
+   */
+  public ImportReport importStream(Reader reader, ImportFormat format, long skipLines) {
+    try {
+      return importLines(new BufferedReader(reader), format, skipLines, lines -> {
+      });
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ImportReport importLines(BufferedReader reader, ImportFormat format, long skipLines,
+                                   LongConsumer checkpoint) throws IOException {
+    long started = System.nanoTime();
+    long line = 0;
+    long committed = skipLines;
+    long rows = 0;
+    long batches = 0;
+    List<Transaction> batch = new ArrayList<>(batchSize);
+
+    String text;
+    while ((text = reader.readLine()) != null) {
+      line++;
+      if (line <= skipLines || text.isBlank() || (line == 1 && isHeader(text, format))) {
+        continue;
+      }
+      try {
+        batch.add(parser.parse(text, format));
+      } catch (IllegalArgumentException e) {
+        throw new ImportException("Line " + line + ": " + e.getMessage() + " (" + committed
+                + " lines committed, resume from there)", committed, e);
+      }
+      if (batch.size() == batchSize) {
+        rows += record(batch, committed, batches == 0);
+        batches++;
+        committed = line;
+        checkpoint.accept(committed);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      rows += record(batch, committed, batches == 0);
+      batches++;
+    }
+    committed = Math.max(committed, line);
+    checkpoint.accept(committed);
+
+    long nanos = Math.max(1, System.nanoTime() - started);
+    return new ImportReport(rows, batches, skipLines, committed, nanos / 1_000_000, rows * 1_000_000_000L / nanos);
+  }
+
+  private static boolean isHeader(String text, ImportFormat format) {
+    return format == ImportFormat.CSV && text.strip().equalsIgnoreCase(TransactionRowParser.CSV_HEADER);
+  }
+
+  // Returns the rows actually recorded.
+  private int record(List<Transaction> batch, long committed, boolean mayReplay) {
+    try {
+      List<Transaction> rows = List.copyOf(batch);
+      if (mayReplay) {
+        Set<UUID> recorded = ledger.recordedIds(rows.stream().map(Transaction::id).toList());
+        rows = rows.stream().filter(row -> !recorded.contains(row.id())).toList();
+      }
+      if (!rows.isEmpty()) {
+        ledger.recordAll(rows);
+      }
+      return rows.size();
+    } catch (RuntimeException e) {
+      throw new ImportException("Recording batch after line " + committed + " failed: " + e.getMessage()
+              + " (" + committed + " lines committed, resume from there)", committed, e);
+    }
+  }
+
+  private static long readCheckpoint(Path checkpoint) throws IOException {
+    return Files.exists(checkpoint) ? Long.parseLong(Files.readString(checkpoint).strip()) : 0;
+  }
+
+  // Write-then-rename so a crash never leaves a torn checkpoint behind.
+  private static void writeCheckpoint(Path checkpoint, long lines) {
+    try {
+      Path pending = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+      Files.writeString(pending, Long.toString(lines));
+      Files.move(pending, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
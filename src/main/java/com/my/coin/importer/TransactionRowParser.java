@@ -0,0 +1,79 @@
+package com.my.coin.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Turns one line of an import file into a validated {@link Transaction}. CSV rows are
+ * {@code id,type,amount,timestamp} with an ISO-8601 local timestamp; NDJSON rows are the JSON the
+ * transactions endpoint returns.
+ */
+class TransactionRowParser {
+
+  static final String CSV_HEADER = "id,type,amount,timestamp";
+
+  private static final BigDecimal MIN_AMOUNT = new BigDecimal("0.01");
+
+  private final ObjectMapper objectMapper;
+
+  TransactionRowParser(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  Transaction parse(String line, ImportFormat format) {
+    Transaction transaction = format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+    validate(transaction);
+    return transaction;
+  }
+
+  private Transaction parseCsv(String line) {
+    String[] fields = line.split(",", -1);
+    if (fields.length != 4) {
+      throw new IllegalArgumentException("expected 4 fields (" + CSV_HEADER + ") but found " + fields.length);
+    }
+    return new Transaction(
+            field(fields[0], "id", UUID::fromString),
+            field(fields[1], "type", TransactionType::valueOf),
+            field(fields[2], "amount", BigDecimal::new),
+            field(fields[3], "timestamp", LocalDateTime::parse));
+  }
+
+  private static <T> T field(String value, String name, Function<String, T> parser) {
+    try {
+      return parser.apply(value.strip());
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("invalid " + name + " '" + value.strip() + "'");
+    }
+  }
+
+  private Transaction parseJson(String line) {
+    try {
+      return objectMapper.readValue(line, Transaction.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException(e.getOriginalMessage());
+    }
+  }
+
+  private static void validate(Transaction transaction) {
+    if (transaction.id() == null) {
+      throw new IllegalArgumentException("id is required");
+    }
+    if (transaction.type() == null) {
+      throw new IllegalArgumentException("type is required");
+    }
+    if (transaction.amount() == null || transaction.amount().compareTo(MIN_AMOUNT) < 0) {
+      throw new IllegalArgumentException("amount must be >= " + MIN_AMOUNT);
+    }
+    if (transaction.timestamp() == null) {
+      throw new IllegalArgumentException("timestamp is required");
+    }
+  }
+}
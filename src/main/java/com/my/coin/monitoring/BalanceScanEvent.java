@@ -0,0 +1,22 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.my.coin.BalanceScan")
+@Label("Balance Scan")
+@Description("Summing the history to compute a balance")
+@Category("Ledger")
+@StackTrace(false)
+public class BalanceScanEvent extends Event {
+
+  @Label("Transactions Scanned")
+  public long transactionsScanned;
+
+  @Label("From Date")
+  public boolean fromDate;
+}
@@ -0,0 +1,19 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.my.coin.Binding")
+@Label("Request Binding")
+@Description("JSON deserialisation of the request body")
+@Category("Ledger")
+@StackTrace(false)
+public class BindingEvent extends Event {
+
+  @Label("Body Type")
+  public String bodyType;
+}
@@ -0,0 +1,72 @@
+package com.my.coin.monitoring;
+
+import com.my.coin.controller.dto.AmountRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Records JSON binding of request bodies as a {@link BindingEvent}, from before the body is read until it
+ * has been converted. The event is kept as a request attribute, so a read that fails half way leaves nothing
+ * behind on the thread.
+ */
+@ControllerAdvice
+public class BindingRecordingAdvice extends RequestBodyAdviceAdapter {
+
+  private static final String EVENT_ATTRIBUTE = BindingEvent.class.getName();
+
+  @Override
+  public boolean supports(MethodParameter parameter, Type targetType,
+                          Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public HttpInputMessage beforeBodyRead(HttpInputMessage message, MethodParameter parameter, Type targetType,
+                                         Class<? extends HttpMessageConverter<?>> converterType) {
+    BindingEvent event = new BindingEvent();
+    if (event.isEnabled()) {
+      event.bodyType = targetType.getTypeName();
+      event.begin();
+      RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+      if (attributes != null) {
+        attributes.setAttribute(EVENT_ATTRIBUTE, event, RequestAttributes.SCOPE_REQUEST);
+      }
+    }
+    return message;
+  }
+
+  @Override
+  public Object handleEmptyBody(Object body, HttpInputMessage message, MethodParameter parameter, Type targetType,
+                                Class<? extends HttpMessageConverter<?>> converterType) {
+    commitBinding();
+    return body;
+  }
+
+  @Override
+  public Object afterBodyRead(Object body, HttpInputMessage message, MethodParameter parameter, Type targetType,
+                              Class<? extends HttpMessageConverter<?>> converterType) {
+    commitBinding();
+    if (body instanceof AmountRequest request && request.amount() != null
+            && RequestContextHolder.getRequestAttributes() instanceof RequestAttributes attributes
+            && attributes.getAttribute(LedgerRecordingInterceptor.EVENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+            instanceof LedgerRequestEvent requestEvent) {
+      requestEvent.amount = request.amount().doubleValue();
+    }
+    return body;
+  }
+
+  private void commitBinding() {
+    if (RequestContextHolder.getRequestAttributes() instanceof RequestAttributes attributes
+            && attributes.getAttribute(EVENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof BindingEvent event) {
+      attributes.removeAttribute(EVENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+      event.commit();
+    }
+  }
+}
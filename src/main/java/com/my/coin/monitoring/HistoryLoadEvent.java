@@ -0,0 +1,19 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.my.coin.HistoryLoad")
+@Label("History Load")
+@Description("Loading the transaction history")
+@Category("Ledger")
+@StackTrace(false)
+public class HistoryLoadEvent extends Event {
+
+  @Label("Rows Loaded")
+  public int rows;
+}
@@ -0,0 +1,39 @@
+package com.my.coin.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Wraps each ledger API call in a {@link LedgerRequestEvent}; the body advice fills in the amount.
+ */
+public class LedgerRecordingInterceptor implements HandlerInterceptor {
+
+  static final String EVENT_ATTRIBUTE = LedgerRequestEvent.class.getName();
+
+  @Override
+  public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+    LedgerRequestEvent event = new LedgerRequestEvent();
+    if (event.isEnabled()) {
+      event.operation = handler instanceof HandlerMethod method ? method.getMethod().getName() : request.getRequestURI();
+      event.begin();
+      request.setAttribute(EVENT_ATTRIBUTE, event);
+    }
+    return true;
+  }
+
+  @Override
+  public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                              Exception ex) {
+    if (request.getAttribute(EVENT_ATTRIBUTE) instanceof LedgerRequestEvent event) {
+      request.removeAttribute(EVENT_ATTRIBUTE);
+      event.end();
+      if (event.shouldCommit()) {
+        event.status = response.getStatus();
+        event.outcome = ex != null ? ex.getClass().getSimpleName() : response.getStatus() < 400 ? "OK" : "REJECTED";
+        event.commit();
+      }
+    }
+  }
+}
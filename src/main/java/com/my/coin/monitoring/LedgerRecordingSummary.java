@@ -0,0 +1,78 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarises the ledger events of a JFR recording: count and latency percentiles per stage, with requests
+ * broken down by operation.
+ *
+ * <pre>java -cp target/classes com.my.coin.monitoring.LedgerRecordingSummary ledger.jfr</pre>
+ */
+public final class LedgerRecordingSummary {
+
+  private static final String PREFIX = "com.my.coin.";
+
+  private LedgerRecordingSummary() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: LedgerRecordingSummary <recording.jfr>");
+      System.exit(2);
+    }
+    summarise(Path.of(args[0])).forEach(System.out::println);
+  }
+
+  public static List<StageSummary> summarise(Path recording) throws IOException {
+    Map<String, List<Duration>> durations = new TreeMap<>();
+    for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+      String name = event.getEventType().getName();
+      if (!name.startsWith(PREFIX)) {
+        continue;
+      }
+      String stage = name.substring(PREFIX.length());
+      if (event.hasField("operation") && event.getString("operation") != null) {
+        stage += " " + event.getString("operation");
+      }
+      durations.computeIfAbsent(stage, key -> new ArrayList<>()).add(event.getDuration());
+    }
+
+    List<StageSummary> summaries = new ArrayList<>(durations.size());
+    durations.forEach((stage, values) -> summaries.add(StageSummary.of(stage, values)));
+    return summaries;
+  }
+
+  public record StageSummary(String stage, int count, Duration p50, Duration p90, Duration p99, Duration max) {
+
+    static StageSummary of(String stage, List<Duration> durations) {
+      List<Duration> sorted = durations.stream().sorted().toList();
+      return new StageSummary(stage, sorted.size(), percentile(sorted, 50), percentile(sorted, 90),
+              percentile(sorted, 99), sorted.get(sorted.size() - 1));
+    }
+
+    // Nearest-rank percentile.
+    private static Duration percentile(List<Duration> sorted, int percentile) {
+      int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+      return sorted.get(Math.max(0, rank - 1));
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%-28s count=%-7d p50=%8.3fms p90=%8.3fms p99=%8.3fms max=%8.3fms",
+              stage, count, millis(p50), millis(p90), millis(p99), millis(max));
+    }
+
+    private static double millis(Duration duration) {
+      return duration.toNanos() / 1_000_000.0;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.my.coin.Request")
+@Label("Ledger Request")
+@Description("A ledger API request from handler entry to completion")
+@Category("Ledger")
+@StackTrace(false)
+public class LedgerRequestEvent extends Event {
+
+  @Label("Operation")
+  public String operation;
+
+  @Label("Amount")
+  public double amount;
+
+  @Label("Status")
+  public int status;
+
+  @Label("Outcome")
+  public String outcome;
+}
@@ -0,0 +1,29 @@
+package com.my.coin.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class MonitoringConfiguration implements WebMvcConfigurer {
+
+  private final ObjectProvider<SmartValidator> validator;
+
+  public MonitoringConfiguration(@Qualifier("defaultValidator") ObjectProvider<SmartValidator> validator) {
+    this.validator = validator;
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new LedgerRecordingInterceptor()).addPathPatterns("/api/ledger/**");
+  }
+
+  @Override
+  public Validator getValidator() {
+    return new RecordingValidator(validator);
+  }
+}
@@ -0,0 +1,19 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.my.coin.Persist")
+@Label("Persist")
+@Description("Saving transactions to the repository")
+@Category("Ledger")
+@StackTrace(false)
+public class PersistEvent extends Event {
+
+  @Label("Rows")
+  public int rows;
+}
@@ -0,0 +1,50 @@
+package com.my.coin.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Delegates to the application's bean validator and records each validation as a {@link ValidationEvent}.
+ */
+public class RecordingValidator implements SmartValidator {
+
+  private final ObjectProvider<SmartValidator> delegate;
+
+  public RecordingValidator(ObjectProvider<SmartValidator> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean supports(Class<?> clazz) {
+    return delegate.getObject().supports(clazz);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    validate(target, errors, new Object[0]);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors, Object... validationHints) {
+    ValidationEvent event = new ValidationEvent();
+    if (!event.isEnabled()) {
+      delegate.getObject().validate(target, errors, validationHints);
+      return;
+    }
+    event.begin();
+    int before = errors.getErrorCount();
+    delegate.getObject().validate(target, errors, validationHints);
+    event.end();
+    if (event.shouldCommit()) {
+      event.targetType = target == null ? null : target.getClass().getName();
+      event.violations = errors.getErrorCount() - before;
+      event.commit();
+    }
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> type) {
+    return delegate.getObject().unwrap(type);
+  }
+}
@@ -0,0 +1,22 @@
+package com.my.coin.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.my.coin.Validation")
+@Label("Request Validation")
+@Description("Bean validation of the request body")
+@Category("Ledger")
+@StackTrace(false)
+public class ValidationEvent extends Event {
+
+  @Label("Target Type")
+  public String targetType;
+
+  @Label("Violations")
+  public int violations;
+}
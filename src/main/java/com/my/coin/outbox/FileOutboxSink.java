@@ -0,0 +1,48 @@
+package com.my.coin.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Appends each message as a JSON line. A batch is written with one open and close of the file.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+  private final Path file;
+  private final ObjectMapper objectMapper;
+
+  public FileOutboxSink(Path file, ObjectMapper objectMapper) {
+    this.file = file;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public void deliver(List<OutboxMessage> messages) {
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      try (BufferedWriter out = Files.newBufferedWriter(file, CREATE, APPEND)) {
+        for (OutboxMessage message : messages) {
+          out.write(line(message));
+          out.newLine();
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String line(OutboxMessage message) throws JsonProcessingException {
+    return objectMapper.writeValueAsString(message);
+  }
+}
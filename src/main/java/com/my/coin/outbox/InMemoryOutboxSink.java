@@ -0,0 +1,32 @@
+package com.my.coin.outbox;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Stand-in broker for tests and local runs: a bounded queue nothing in the application drains, so whoever
+ * selects it has to call {@link #drainTo}. When a batch doesn't fit none of it is taken, so the messages wait
+ * in the outbox until the queue is drained.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+  private final BlockingQueue<OutboxMessage> queue;
+
+  public InMemoryOutboxSink(int capacity) {
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  public synchronized void deliver(List<OutboxMessage> messages) {
+    if (queue.remainingCapacity() < messages.size()) {
+      throw new IllegalStateException("Outbox sink full: " + queue.size() + " messages not consumed");
+    }
+    queue.addAll(messages);
+  }
+
+  public int drainTo(Collection<? super OutboxMessage> consumer) {
+    return queue.drainTo(consumer);
+  }
+}
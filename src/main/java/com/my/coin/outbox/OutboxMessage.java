@@ -0,0 +1,19 @@
+package com.my.coin.outbox;
+
+import com.my.coin.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A recorded transaction as published downstream. Delivery is at least once; {@code transactionId}
+ * identifies duplicates.
+ */
+public record OutboxMessage(
+        long id,
+        UUID transactionId,
+        TransactionType type,
+        BigDecimal amount,
+        LocalDateTime timestamp) {
+}
@@ -0,0 +1,20 @@
+package com.my.coin.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * The relay polls every {@code pollInterval} and keeps going in batches of {@code batchSize} until the outbox
+ * is empty. {@code file} is where the file sink appends; {@code memoryCapacity} bounds the in-memory sink.
+ */
+@ConfigurationProperties("ledger.outbox")
+public record OutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("PT0.1S") Duration pollInterval,
+        @DefaultValue("outbox/ledger-events.ndjson") Path file,
+        @DefaultValue("10000") int memoryCapacity) {
+}
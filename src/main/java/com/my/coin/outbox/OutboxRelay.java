@@ -0,0 +1,75 @@
+package com.my.coin.outbox;
+
+import com.my.coin.persistence.repository.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves outbox rows to the sink on a thread of its own, off the request path: the oldest batch by id is
+ * delivered, then deleted with one statement. A crash between the two redelivers that batch.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.outbox.enabled", havingValue = "true")
+public class OutboxRelay implements SmartInitializingSingleton {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxRepository repository;
+  private final OutboxSink sink;
+  private final OutboxProperties properties;
+  private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("ledger-outbox").daemon().factory());
+
+  public OutboxRelay(OutboxRepository repository, OutboxSink sink, OutboxProperties properties) {
+    this.repository = repository;
+    this.sink = sink;
+    this.properties = properties;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    long interval = properties.pollInterval().toMillis();
+    executor.scheduleWithFixedDelay(this::relayQuietly, interval, interval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Relays batches until the outbox is empty and returns how many messages were delivered.
+   */
+  public synchronized int relay() {
+    int delivered = 0;
+    List<OutboxMessage> batch;
+    do {
+      batch = repository.findOldest(Limit.of(properties.batchSize()));
+      if (batch.isEmpty()) {
+        break;
+      }
+      sink.deliver(batch);
+      repository.deleteByIds(batch.stream().map(OutboxMessage::id).toList());
+      delivered += batch.size();
+    } while (batch.size() == properties.batchSize());
+    return delivered;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void relayQuietly() {
+    try {
+      relay();
+    } catch (RuntimeException e) {
+      log.warn("Outbox relay failed, retrying in {}", properties.pollInterval(), e);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.my.coin.outbox;
+
+import java.util.List;
+
+/**
+ * Downstream destination for relayed messages, selected with {@code ledger.outbox.sink=file|memory}.
+ */
+@FunctionalInterface
+public interface OutboxSink {
+
+  /**
+   * Delivers a batch in order, or throws; a batch that fails stays in the outbox and is offered again.
+   */
+  void deliver(List<OutboxMessage> messages);
+}
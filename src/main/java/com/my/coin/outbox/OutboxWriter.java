@@ -0,0 +1,32 @@
+package com.my.coin.outbox;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
+import com.my.coin.persistence.entity.OutboxEntity;
+import com.my.coin.persistence.repository.OutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Writes the outbox row inside the transaction that records the ledger transaction, so both commit or
+ * neither does. Only transactions recorded in a database transaction reach the outbox.
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.outbox.enabled", havingValue = "true")
+public class OutboxWriter {
+
+  private final OutboxRepository repository;
+
+  public OutboxWriter(OutboxRepository repository) {
+    this.repository = repository;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onRecorded(TransactionRecorded event) {
+    Transaction transaction = event.transaction();
+    repository.save(new OutboxEntity(transaction.id(), transaction.type(), transaction.amount(),
+            transaction.timestamp()));
+  }
+}
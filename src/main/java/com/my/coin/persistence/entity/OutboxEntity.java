@@ -0,0 +1,61 @@
+package com.my.coin.persistence.entity;
+
+import com.my.coin.domain.TransactionType;
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A recorded transaction waiting to be relayed downstream. The id comes from a pooled sequence, so rows
+ * are inserted in JDBC batches along with their transactions and the relay pages through the primary key.
+ */
+@Entity
+@Table(name = "outbox")
+public class OutboxEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+  @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_seq", allocationSize = 100)
+  private Long id;
+
+  private UUID transactionId;
+
+  @Enumerated(EnumType.STRING)
+  private TransactionType type;
+
+  private BigDecimal amount;
+
+  private LocalDateTime timestamp;
+
+  protected OutboxEntity() {
+  }
+
+  public OutboxEntity(UUID transactionId, TransactionType type, BigDecimal amount, LocalDateTime timestamp) {
+    this.transactionId = transactionId;
+    this.type = type;
+    this.amount = amount;
+    this.timestamp = timestamp;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public UUID getTransactionId() {
+    return transactionId;
+  }
+
+  public TransactionType getType() {
+    return type;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public LocalDateTime getTimestamp() {
+    return timestamp;
+  }
+}
@@ -2,14 +2,21 @@ package com.my.coin.persistence.entity;
 
 import com.my.coin.domain.TransactionType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * Transactions are append-only: the id is assigned by the application, so the entity tells Spring Data
+ * it is new itself (persist instead of merge, i.e. no SELECT before the INSERT) and is never dirty checked.
+ */
 @Entity
-@Table(name = "transactions")
-public class TransactionEntity {
+@Immutable
+@Table(name = "transactions", indexes = @Index(name = "idx_transactions_timestamp", columnList = "timestamp"))
+public class TransactionEntity implements Persistable<UUID> {
 
   @Id
   private UUID id;
@@ -21,13 +28,14 @@ public class TransactionEntity {
 
   private LocalDateTime timestamp;
 
-  public TransactionEntity() {
+  @Transient
+  private boolean isNew = true;
+
+  protected TransactionEntity() {
   }
 
   public TransactionEntity(TransactionType type, BigDecimal amount) {
-    this.type = type;
-    this.amount = amount;
-    this.timestamp = LocalDateTime.now();
+    this(UUID.randomUUID(), type, amount, LocalDateTime.now());
   }
 
   public TransactionEntity(UUID id, TransactionType type, BigDecimal amount, LocalDateTime timestamp) {
@@ -37,35 +45,31 @@ public class TransactionEntity {
     this.timestamp = timestamp;
   }
 
+  @Override
   public UUID getId() {
     return id;
   }
 
-  public void setId(UUID id) {
-    this.id = id;
-  }
-
   public TransactionType getType() {
     return type;
   }
 
-  public void setType(TransactionType type) {
-    this.type = type;
-  }
-
   public BigDecimal getAmount() {
     return amount;
   }
 
-  public void setAmount(BigDecimal amount) {
-    this.amount = amount;
-  }
-
   public LocalDateTime getTimestamp() {
     return timestamp;
   }
 
-  public void setTimestamp(LocalDateTime timestamp) {
-    this.timestamp = timestamp;
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
   }
 }
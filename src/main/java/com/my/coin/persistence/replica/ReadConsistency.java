@@ -0,0 +1,32 @@
+package com.my.coin.persistence.replica;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks reads that must see every committed write, such as the ledger's balance and history whose answers are
+ * tagged with the current version (ETags): they may only use the replica once it has caught up, whatever lag
+ * other reads tolerate.
+ */
+public final class ReadConsistency {
+
+  private static final ThreadLocal<Boolean> CURRENT = new ThreadLocal<>();
+
+  private ReadConsistency() {
+  }
+
+  public static <T> T requireCurrent(Supplier<T> read) {
+    Boolean previous = CURRENT.get();
+    CURRENT.set(Boolean.TRUE);
+    try {
+      return read.get();
+    } finally {
+      if (previous == null) {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  static boolean isCurrentRequired() {
+    return CURRENT.get() != null;
+  }
+}
@@ -0,0 +1,22 @@
+package com.my.coin.persistence.replica;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Read replica for history queries. With a zero {@code maxLag} reads only go to the replica once it has applied
+ * every committed write, so a client always reads its own deposits; a positive bound trades that for fewer
+ * reads on the primary.
+ */
+@ConfigurationProperties("ledger.replica")
+public record ReplicaProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("jdbc:h2:mem:ledgerreplica;DB_CLOSE_DELAY=-1") String url,
+        @DefaultValue("sa") String username,
+        @DefaultValue("") String password,
+        @DefaultValue("4") int poolSize,
+        @DefaultValue("0s") Duration maxLag,
+        @DefaultValue("500") int batchSize) {
+}
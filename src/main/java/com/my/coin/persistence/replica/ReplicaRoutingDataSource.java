@@ -0,0 +1,36 @@
+package com.my.coin.persistence.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * The read-only side of the application datasource: the replica while it is fresh enough, else the primary.
+ * Read-only connections are routed here by
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy#setReadOnlyDataSource}, which
+ * only picks a target once the transaction has marked the connection read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route { PRIMARY, REPLICA }
+
+  private final BooleanSupplier caughtUp;
+  private final BooleanSupplier withinLag;
+
+  public ReplicaRoutingDataSource(DataSource primary, DataSource replica, BooleanSupplier caughtUp,
+                                  BooleanSupplier withinLag) {
+    this.caughtUp = caughtUp;
+    this.withinLag = withinLag;
+    setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Route determineCurrentLookupKey() {
+    BooleanSupplier fresh = ReadConsistency.isCurrentRequired() ? caughtUp : withinLag;
+    return fresh.getAsBoolean() ? Route.REPLICA : Route.PRIMARY;
+  }
+}
@@ -0,0 +1,202 @@
+package com.my.coin.persistence.replica;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the replica in step with the primary, standing in for database replication. Once the context is up
+ * the replica gets the primary's schema ({@code SCRIPT NODATA}) and rows; after that every committed
+ * transaction is queued and applied in batches on a thread of its own. Rows are merged by id, so a
+ * transaction caught by both the copy and the queue is applied once.
+ */
+public class ReplicaSynchronizer implements SmartInitializingSingleton {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaSynchronizer.class);
+
+  private static final String MERGE = "MERGE INTO transactions (id, type, amount, timestamp) KEY (id) VALUES (?, ?, ?, ?)";
+  private static final long IDLE = Long.MIN_VALUE;
+
+  private record Pending(Transaction transaction, long committedAt) {
+  }
+
+  private final JdbcTemplate primary;
+  private final JdbcTemplate replica;
+  private final ReplicaProperties properties;
+  private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+  private final AtomicLong pending = new AtomicLong();
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+          Thread.ofPlatform().name("ledger-replica").daemon().factory());
+
+  private volatile boolean ready;
+  private volatile boolean stopped;
+  private volatile long applyingSince = IDLE;
+
+  public ReplicaSynchronizer(DataSource primary, DataSource replica, ReplicaProperties properties) {
+    this.primary = new JdbcTemplate(primary);
+    this.replica = new JdbcTemplate(replica);
+    this.properties = properties;
+  }
+
+  // Runs after every singleton, the entity manager factory (and so the schema) included.
+  @Override
+  public void afterSingletonsInstantiated() {
+    executor.execute(() -> {
+      try {
+        copySchema();
+        copyRows();
+        ready = true;
+        log.info("Replica {} in sync, serving read-only transactions", properties.url());
+        applyLoop();
+      } catch (RuntimeException e) {
+        log.warn("Replica {} stopped replicating, reads fall back to the primary", properties.url(), e);
+      } finally {
+        stop();
+      }
+    });
+  }
+
+  // Counted as pending before the commit, so no after-commit listener (the ETag version bump among them) can
+  // make a write visible while the replica still looks caught up without it.
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+  public void onRecorded(TransactionRecorded event) {
+    if (stopped) {
+      return;
+    }
+    pending.incrementAndGet();
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCompletion(int status) {
+        if (status == STATUS_COMMITTED) {
+          enqueue(event.transaction());
+        } else {
+          pending.decrementAndGet();
+        }
+      }
+    });
+  }
+
+  /**
+   * Whether a read-only transaction may use the replica now: it is initialised, still replicating, and behind
+   * the primary by no more than {@code maxLag}.
+   */
+  public boolean isFresh() {
+    if (isCaughtUp()) {
+      return true;
+    }
+    return ready && !properties.maxLag().isZero() && lagNanos() <= properties.maxLag().toNanos();
+  }
+
+  /**
+   * Whether the replica has applied every committed write.
+   */
+  public boolean isCaughtUp() {
+    return ready && pending.get() == 0;
+  }
+
+  long pending() {
+    return pending.get();
+  }
+
+  int queued() {
+    return queue.size();
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void enqueue(Transaction transaction) {
+    queue.add(new Pending(transaction, System.nanoTime()));
+    if (stopped) {
+      queue.clear();
+    }
+  }
+
+  // Nothing drains the queue once the apply loop has exited, so later commits are no longer queued at all.
+  private void stop() {
+    ready = false;
+    stopped = true;
+    queue.clear();
+  }
+
+  // Time since the oldest commit not yet applied. Pending with nothing in sight means a batch is changing
+  // hands, which counts as too stale.
+  private long lagNanos() {
+    long oldest = applyingSince;
+    if (oldest == IDLE) {
+      Pending head = queue.peek();
+      if (head == null) {
+        return Long.MAX_VALUE;
+      }
+      oldest = head.committedAt();
+    }
+    return System.nanoTime() - oldest;
+  }
+
+  private void copySchema() {
+    replica.execute("DROP ALL OBJECTS");
+    List<String> script = primary.queryForList("SCRIPT NODATA", String.class);
+    script.stream()
+            .filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+            .forEach(replica::execute);
+  }
+
+  private void copyRows() {
+    List<Object[]> batch = new ArrayList<>(properties.batchSize());
+    primary.query("SELECT id, type, amount, timestamp FROM transactions", row -> {
+      batch.add(new Object[]{row.getObject(1), row.getString(2), row.getBigDecimal(3), row.getTimestamp(4)});
+      if (batch.size() == properties.batchSize()) {
+        replica.batchUpdate(MERGE, batch);
+        batch.clear();
+      }
+    });
+    if (!batch.isEmpty()) {
+      replica.batchUpdate(MERGE, batch);
+    }
+  }
+
+  private void applyLoop() {
+    List<Pending> batch = new ArrayList<>(properties.batchSize());
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        Pending first = queue.take();
+        applyingSince = first.committedAt();
+        batch.add(first);
+        queue.drainTo(batch, properties.batchSize() - 1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      replica.batchUpdate(MERGE, batch.stream().map(ReplicaSynchronizer::row).toList());
+      pending.addAndGet(-batch.size());
+      applyingSince = IDLE;
+      batch.clear();
+    }
+  }
+
+  private static Object[] row(Pending pending) {
+    Transaction transaction = pending.transaction();
+    return new Object[]{transaction.id(), transaction.type().name(), transaction.amount(),
+            Timestamp.valueOf(transaction.timestamp())};
+  }
+}
@@ -0,0 +1,33 @@
+package com.my.coin.persistence.repository;
+
+import com.my.coin.outbox.OutboxMessage;
+import com.my.coin.persistence.entity.OutboxEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Pinned to the primary: the replica never carries the outbox, and the read-only CRUD reads JpaRepository
+// would inherit are routed there. Only the methods declared here exist, so none of them can be.
+@Transactional
+public interface OutboxRepository extends Repository<OutboxEntity, Long> {
+
+  OutboxEntity save(OutboxEntity entity);
+
+  long count();
+
+  @Query("""
+          select new com.my.coin.outbox.OutboxMessage(o.id, o.transactionId, o.type, o.amount, o.timestamp)
+          from OutboxEntity o
+          order by o.id""")
+  List<OutboxMessage> findOldest(Limit limit);
+
+  // By id rather than "up to the last id": a lower id committed after the page was read must survive.
+  @Modifying
+  @Query("delete from OutboxEntity o where o.id in :ids")
+  int deleteByIds(@Param("ids") List<Long> ids);
+}
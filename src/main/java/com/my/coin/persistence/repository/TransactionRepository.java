@@ -1,12 +1,74 @@
 package com.my.coin.persistence.repository;
 
+import com.my.coin.domain.Transaction;
 import com.my.coin.persistence.entity.TransactionEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface TransactionRepository extends JpaRepository<TransactionEntity, UUID> {
 
-  List<TransactionEntity> findAllByOrderByTimestampDesc();
+  // Projections straight into the domain record: rows are never attached to the persistence context.
+
+  @Query("select new com.my.coin.domain.Transaction(t.id, t.type, t.amount, t.timestamp) from TransactionEntity t")
+  List<Transaction> findAllTransactions();
+
+  @Query("""
+          select new com.my.coin.domain.Transaction(t.id, t.type, t.amount, t.timestamp)
+          from TransactionEntity t
+          order by t.timestamp desc""")
+  List<Transaction> findAllTransactionsByOrderByTimestampDesc();
+
+  @Query("""
+          select new com.my.coin.domain.Transaction(t.id, t.type, t.amount, t.timestamp)
+          from TransactionEntity t
+          where t.timestamp >= :from and t.timestamp < :to
+          order by t.timestamp, t.id""")
+  List<Transaction> findAllTransactionsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  @Query("""
+          select new com.my.coin.domain.Transaction(t.id, t.type, t.amount, t.timestamp)
+          from TransactionEntity t
+          where t.timestamp >= :from
+          order by t.timestamp, t.id""")
+  List<Transaction> findAllTransactionsFrom(@Param("from") LocalDateTime from);
+
+  // Keyset pages in (timestamp, id) order: each page is an index range scan however deep into the history.
+
+  @Query("""
+          select new com.my.coin.domain.Transaction(t.id, t.type, t.amount, t.timestamp)
+          from TransactionEntity t
+          order by t.timestamp, t.id""")
+  List<Transaction> findFirstTransactions(Limit limit);
+
+  @Query("""
+          select new com.my.coin.domain.Transaction(t.id, t.type, t.amount, t.timestamp)
+          from TransactionEntity t
+          where t.timestamp > :timestamp or (t.timestamp = :timestamp and t.id > :id)
+          order by t.timestamp, t.id""")
+  List<Transaction> findTransactionsAfter(@Param("timestamp") LocalDateTime timestamp, @Param("id") UUID id,
+                                          Limit limit);
+
+  @Query("select t.id from TransactionEntity t where t.id in :ids")
+  Set<UUID> findIdsIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("select min(t.timestamp) from TransactionEntity t")
+  Optional<LocalDateTime> findFirstTimestamp();
+
+  @Query("select max(t.timestamp) from TransactionEntity t")
+  Optional<LocalDateTime> findLastTimestamp();
+
+  @Query("""
+          select sum(case when t.type = com.my.coin.domain.TransactionType.DEPOSIT then t.amount else -t.amount end)
+          from TransactionEntity t""")
+  Optional<BigDecimal> sumSignedAmounts();
 }
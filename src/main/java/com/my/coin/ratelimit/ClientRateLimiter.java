@@ -0,0 +1,82 @@
+package com.my.coin.ratelimit;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+public class ClientRateLimiter {
+
+  private static final class Tracked {
+
+    private final TokenBucket bucket;
+    private volatile long lastUsed;
+
+    Tracked(TokenBucket bucket) {
+      this.bucket = bucket;
+    }
+  }
+
+  private final RateLimitProperties properties;
+  private final LongSupplier clock;
+  private final Map<String, Tracked> buckets = new ConcurrentHashMap<>();
+  private final AtomicBoolean evicting = new AtomicBoolean();
+
+  public ClientRateLimiter(RateLimitProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  ClientRateLimiter(RateLimitProperties properties, LongSupplier clock) {
+    this.properties = properties;
+    this.clock = clock;
+  }
+
+  /**
+   * @return 0 when the request may proceed, otherwise the nanoseconds the client should wait
+   */
+  public long tryAcquire(String client) {
+    long now = clock.getAsLong();
+    Tracked tracked = buckets.get(client);
+    if (tracked == null) {
+      if (buckets.size() >= properties.maxClients()) {
+        evict(now);
+      }
+      tracked = buckets.computeIfAbsent(client,
+              key -> new Tracked(new TokenBucket(properties.capacity(), properties.refillPerSecond(), now)));
+    }
+    tracked.lastUsed = now;
+    return tracked.bucket.tryAcquire(now);
+  }
+
+  int trackedClients() {
+    return buckets.size();
+  }
+
+  boolean isTracked(String client) {
+    return buckets.containsKey(client);
+  }
+
+  // Full buckets go first, as they carry no state; then the least recently used, down to 90% of the bound.
+  // One thread sweeps at a time; the others carry on and may briefly overshoot the bound.
+  private void evict(long now) {
+    if (!evicting.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      buckets.values().removeIf(tracked -> tracked.bucket.isFull(now));
+      int target = properties.maxClients() - Math.max(1, properties.maxClients() / 10);
+      int excess = buckets.size() - target;
+      if (excess > 0) {
+        buckets.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastUsed))
+                .limit(excess)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(buckets::remove);
+      }
+    } finally {
+      evicting.set(false);
+    }
+  }
+}
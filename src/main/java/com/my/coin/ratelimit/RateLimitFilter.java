@@ -0,0 +1,65 @@
+package com.my.coin.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sheds excess requests per client before they reach the ledger. A client is a configured API key, or
+ * else the remote address: an unknown key would let a caller pick a fresh bucket on every request.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+  private static final String LEDGER_PATH = "/api/ledger/";
+
+  private final RateLimitProperties properties;
+  private final ClientRateLimiter limiter;
+
+  @Autowired
+  public RateLimitFilter(RateLimitProperties properties) {
+    this(properties, new ClientRateLimiter(properties));
+  }
+
+  RateLimitFilter(RateLimitProperties properties, ClientRateLimiter limiter) {
+    this.properties = properties;
+    this.limiter = limiter;
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.enabled() || !request.getRequestURI().startsWith(LEDGER_PATH);
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+          throws ServletException, IOException {
+    long waitNanos = limiter.tryAcquire(clientOf(request));
+    if (waitNanos == 0) {
+      chain.doFilter(request, response);
+      return;
+    }
+    long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+    response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+    response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+    response.getWriter().write("Rate limit exceeded, retry in " + retryAfterSeconds + "s");
+  }
+
+  private String clientOf(HttpServletRequest request) {
+    String apiKey = request.getHeader(properties.clientHeader());
+    return apiKey != null && properties.apiKeys().contains(apiKey)
+            ? "key:" + apiKey
+            : "addr:" + request.getRemoteAddr();
+  }
+}
@@ -0,0 +1,21 @@
+package com.my.coin.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * Per-client token bucket settings: each client may burst up to {@code capacity} requests and is
+ * refilled at {@code refillPerSecond}. At most {@code maxClients} buckets are tracked at once.
+ * Only keys listed in {@code apiKeys} get a bucket of their own; any other caller is limited by address.
+ */
+@ConfigurationProperties("ledger.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("100") long capacity,
+        @DefaultValue("50") double refillPerSecond,
+        @DefaultValue("10000") int maxClients,
+        @DefaultValue("X-API-Key") String clientHeader,
+        @DefaultValue Set<String> apiKeys) {
+}
@@ -0,0 +1,47 @@
+package com.my.coin.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket kept as a single "theoretical arrival time" (GCRA): a request is admitted
+ * when, after paying for it, the bucket would not be more than {@code capacity} requests ahead of now.
+ */
+public class TokenBucket {
+
+  private final long nanosPerToken;
+  private final long burstNanos;
+  private final AtomicLong theoreticalArrival;
+
+  public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+    if (capacity <= 0 || refillPerSecond <= 0) {
+      throw new IllegalArgumentException("Capacity and refill rate must be positive");
+    }
+    this.nanosPerToken = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+    this.burstNanos = nanosPerToken * capacity;
+    this.theoreticalArrival = new AtomicLong(nowNanos);
+  }
+
+  /**
+   * @return 0 when a token was taken, otherwise the nanoseconds until one becomes available
+   */
+  public long tryAcquire(long nowNanos) {
+    while (true) {
+      long current = theoreticalArrival.get();
+      long next = Math.max(current, nowNanos) + nanosPerToken;
+      long ahead = next - nowNanos;
+      if (ahead > burstNanos) {
+        return ahead - burstNanos;
+      }
+      if (theoreticalArrival.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * A full bucket carries no state, so it can be dropped and recreated without changing behaviour.
+   */
+  public boolean isFull(long nowNanos) {
+    return theoreticalArrival.get() - nowNanos <= 0;
+  }
+}
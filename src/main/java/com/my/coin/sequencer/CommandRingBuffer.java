@@ -0,0 +1,57 @@
+package com.my.coin.sequencer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Pre-allocated multi-producer, single-consumer ring of {@link LedgerCommand}s. Producers claim a sequence
+ * with one atomic increment and wait only when the ring is full; the consumer releases slots in bulk.
+ */
+final class CommandRingBuffer {
+
+  private final LedgerCommand[] slots;
+  private final int mask;
+  private final AtomicLong claimed = new AtomicLong();
+  private final AtomicLong released = new AtomicLong();
+
+  CommandRingBuffer(int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Buffer size must be a positive power of two");
+    }
+    this.slots = new LedgerCommand[capacity];
+    for (int i = 0; i < capacity; i++) {
+      slots[i] = new LedgerCommand();
+    }
+    this.mask = capacity - 1;
+  }
+
+  /**
+   * Gives up while waiting for room once {@code open} turns false: nobody would ever release a slot.
+   */
+  void publish(Consumer<LedgerCommand> writer, BooleanSupplier open) {
+    long sequence = claimed.getAndIncrement();
+    while (sequence - released.get() >= slots.length) {
+      if (!open.getAsBoolean()) {
+        throw new IllegalStateException("Ledger sequencer stopped");
+      }
+      LockSupport.parkNanos(1_000);
+    }
+    LedgerCommand slot = slots[(int) (sequence & mask)];
+    writer.accept(slot);
+    slot.published = sequence;
+  }
+
+  /**
+   * @return the command at {@code sequence} if it has been published, otherwise null
+   */
+  LedgerCommand poll(long sequence) {
+    LedgerCommand slot = slots[(int) (sequence & mask)];
+    return slot.published == sequence ? slot : null;
+  }
+
+  void release(long upToExclusive) {
+    released.set(upToExclusive);
+  }
+}
@@ -0,0 +1,31 @@
+package com.my.coin.sequencer;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A reusable ring buffer slot. Fields are written by the claiming request thread and become visible to the
+ * sequencer thread through the volatile {@code published} write. Whoever flips {@code taken} first owns the
+ * outcome: the sequencer to apply the command, or a request that gave up waiting to abandon it.
+ */
+final class LedgerCommand {
+
+  TransactionType type;
+  BigDecimal amount;
+  Transaction transaction;
+  CompletableFuture<Transaction> result;
+  AtomicBoolean taken;
+  volatile long published = -1;
+
+  void clear() {
+    type = null;
+    amount = null;
+    transaction = null;
+    result = null;
+    taken = null;
+  }
+}
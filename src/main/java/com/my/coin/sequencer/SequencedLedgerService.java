@@ -0,0 +1,298 @@
+package com.my.coin.sequencer;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.service.HistorySlice;
+import com.my.coin.service.HistorySnapshot;
+import com.my.coin.service.LedgerHistory;
+import com.my.coin.service.LedgerService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import static com.my.coin.domain.Transaction.transactionFor;
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+import static com.my.coin.domain.TransactionType.WITHDRAWAL;
+
+/**
+ * Single-writer ledger: request threads publish commands into a {@link CommandRingBuffer} and wait on a
+ * future, while one sequencer thread owns the balance, applies commands in order and persists each run of
+ * accepted transactions as one batch before completing their futures. Reads go to the underlying ledger.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "sequenced")
+public class SequencedLedgerService implements LedgerService, LedgerHistory, SmartLifecycle {
+
+  private final LedgerService delegate;
+  private final LedgerHistory history;
+  private final SequencerProperties properties;
+  private final CommandRingBuffer commands;
+
+  private volatile Thread sequencer;
+  private volatile boolean running;
+  private BigDecimal balance;
+
+  public SequencedLedgerService(@Qualifier("jpaLedger") LedgerService delegate,
+                                @Qualifier("jpaLedger") LedgerHistory history,
+                                SequencerProperties properties) {
+    this.delegate = delegate;
+    this.history = history;
+    this.properties = properties;
+    this.commands = new CommandRingBuffer(properties.bufferSize());
+  }
+
+  @Override
+  public void deposit(BigDecimal amount) {
+    requirePositive(amount);
+    submit(DEPOSIT, amount, null);
+  }
+
+  @Override
+  public void deposit(Transaction transaction) {
+    submit(transaction.type(), transaction.amount(), transaction);
+  }
+
+  @Override
+  public void withdraw(BigDecimal amount) {
+    requirePositive(amount);
+    submit(WITHDRAWAL, amount, null);
+  }
+
+  @Override
+  public BigDecimal getBalance(Optional<LocalDateTime> dateOption) {
+    return delegate.getBalance(dateOption);
+  }
+
+  @Override
+  public List<Transaction> getTransactions() {
+    return delegate.getTransactions();
+  }
+
+  @Override
+  public Set<UUID> recordedIds(Collection<UUID> ids) {
+    return delegate.recordedIds(ids);
+  }
+
+  @Override
+  public BigDecimal storedBalance() {
+    return history.storedBalance();
+  }
+
+  @Override
+  public BigDecimal openingBalance() {
+    return history.openingBalance();
+  }
+
+  @Override
+  public List<HistorySlice> slices(int count) {
+    return history.slices(count);
+  }
+
+  @Override
+  public HistorySnapshot snapshot(int count) {
+    return history.snapshot(count);
+  }
+
+  @Override
+  public void forEachChunk(int chunkSize, Consumer<List<Transaction>> consumer) {
+    history.forEachChunk(chunkSize, consumer);
+  }
+
+  @Override
+  public void forEachChunk(int chunkSize, Consumer<BigDecimal> opening, Consumer<List<Transaction>> consumer) {
+    history.forEachChunk(chunkSize, opening, consumer);
+  }
+
+  private void submit(TransactionType type, BigDecimal amount, Transaction transaction) {
+    if (!running) {
+      throw new IllegalStateException("Ledger sequencer is not running");
+    }
+    CompletableFuture<Transaction> result = new CompletableFuture<>();
+    AtomicBoolean taken = new AtomicBoolean();
+    commands.publish(command -> {
+      command.type = type;
+      command.amount = amount;
+      command.transaction = transaction;
+      command.result = result;
+      command.taken = taken;
+    }, () -> running);
+    LockSupport.unpark(sequencer);
+    if (!running) {
+      // The sequencer may have drained before this command landed. Once it has exited nothing else will
+      // touch the command, so failing it then can't contradict an outcome already decided.
+      awaitSequencerExit();
+      result.completeExceptionally(new IllegalStateException("Ledger sequencer stopped"));
+    }
+    try {
+      result.get(properties.timeout().toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      throw failure(e.getCause());
+    } catch (TimeoutException | InterruptedException e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      if (taken.compareAndSet(false, true)) {
+        throw new IllegalStateException(e instanceof TimeoutException
+                ? "Ledger sequencer did not take the command within " + properties.timeout()
+                : "Interrupted waiting for the ledger sequencer", e);
+      }
+      // Already applied: reporting a failure now could have the client book it again, so wait for the outcome.
+      try {
+        result.join();
+      } catch (CompletionException completion) {
+        throw failure(completion.getCause());
+      }
+    }
+  }
+
+  private static RuntimeException failure(Throwable cause) {
+    return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+  }
+
+  private void awaitSequencerExit() {
+    Thread thread = sequencer;
+    if (thread == null || thread == Thread.currentThread()) {
+      return;
+    }
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void requirePositive(BigDecimal amount) {
+    if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+      throw new IllegalArgumentException("Amount must be positive");
+    }
+  }
+
+  private void runSequencer() {
+    long next = 0;
+    List<Transaction> batch = new ArrayList<>(properties.batchSize());
+    List<CompletableFuture<Transaction>> pending = new ArrayList<>(properties.batchSize());
+    List<Rejection> rejected = new ArrayList<>();
+
+    while (running) {
+      BigDecimal openingBalance = balance;
+      long first = next;
+      LedgerCommand command;
+      while (batch.size() < properties.batchSize() && (command = commands.poll(next)) != null) {
+        apply(command, batch, pending, rejected);
+        command.clear();
+        next++;
+      }
+      if (next == first) {
+        LockSupport.parkNanos(100_000);
+        continue;
+      }
+      // Slots are free to reuse once their fields were copied out.
+      commands.release(next);
+      persist(batch, pending, rejected, openingBalance);
+      batch.clear();
+      pending.clear();
+      rejected.clear();
+    }
+
+    LedgerCommand command;
+    while ((command = commands.poll(next)) != null) {
+      command.result.completeExceptionally(new IllegalStateException("Ledger sequencer stopped"));
+      command.clear();
+      next++;
+    }
+    commands.release(next);
+  }
+
+  private void apply(LedgerCommand command, List<Transaction> batch, List<CompletableFuture<Transaction>> pending,
+                     List<Rejection> rejected) {
+    if (!command.taken.compareAndSet(false, true)) {
+      return;
+    }
+    if (command.type == WITHDRAWAL && command.transaction == null && balance.compareTo(command.amount) < 0) {
+      rejected.add(new Rejection(command.result, command.amount));
+      return;
+    }
+    Transaction transaction = command.transaction != null
+            ? command.transaction
+            : transactionFor(command.type, command.amount);
+    balance = transaction.type() == DEPOSIT
+            ? balance.add(transaction.amount())
+            : balance.subtract(transaction.amount());
+    batch.add(transaction);
+    pending.add(command.result);
+  }
+
+  // Rejections were decided against a balance that includes the batch, so they are answered with it: a client
+  // told its withdrawal bounced must not then read a balance from before the batch.
+  private void persist(List<Transaction> batch, List<CompletableFuture<Transaction>> pending,
+                       List<Rejection> rejected, BigDecimal openingBalance) {
+    if (!batch.isEmpty()) {
+      try {
+        delegate.recordAll(List.copyOf(batch));
+      } catch (RuntimeException e) {
+        balance = openingBalance;
+        pending.forEach(result -> result.completeExceptionally(e));
+        rejected.forEach(rejection -> rejection.result().completeExceptionally(e));
+        return;
+      }
+    }
+    for (int i = 0; i < batch.size(); i++) {
+      pending.get(i).complete(batch.get(i));
+    }
+    rejected.forEach(rejection -> rejection.result().completeExceptionally(
+            new InsufficientBalanceException("Insufficient balance to withdraw " + rejection.amount())));
+  }
+
+  private record Rejection(CompletableFuture<Transaction> result, BigDecimal amount) {
+  }
+
+  @Override
+  public void start() {
+    balance = history.storedBalance();
+    running = true;
+    sequencer = Thread.ofPlatform().name("ledger-sequencer").start(this::runSequencer);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    Thread thread = sequencer;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      awaitSequencerExit();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  // Below the web server's start/stop (DEFAULT_PHASE - 2048) and graceful shutdown (DEFAULT_PHASE - 1024)
+  // phases: start before requests are accepted, stop only once in-flight requests have drained.
+  @Override
+  public int getPhase() {
+    return SmartLifecycle.DEFAULT_PHASE - 4096;
+  }
+}
@@ -0,0 +1,18 @@
+package com.my.coin.sequencer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Used when {@code ledger.mode=sequenced}: {@code bufferSize} (a power of two) commands may be in flight,
+ * and up to {@code batchSize} of them are persisted together. A request waits at most {@code timeout} for the
+ * sequencer to take its command; once taken, it waits for the outcome.
+ */
+@ConfigurationProperties("ledger.sequencer")
+public record SequencerProperties(
+        @DefaultValue("1024") int bufferSize,
+        @DefaultValue("256") int batchSize,
+        @DefaultValue("PT30S") Duration timeout) {
+}
@@ -1,48 +1,88 @@
 package com.my.coin.service;
 
 import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
+import com.my.coin.exception.HistoryNotRetainedException;
 import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.service.store.ListTransactionStore;
+import com.my.coin.service.store.TransactionStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Fallback;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static com.my.coin.domain.Transaction.transactionFor;
 import static com.my.coin.domain.TransactionType.DEPOSIT;
 import static com.my.coin.domain.TransactionType.WITHDRAWAL;
 
+/**
+ * Every operation holds the ledger's monitor, so a withdrawal's balance check and its append are atomic
+ * and readers never see the store mid-append.
+ * <p>
+ * With a {@link RetentionProperties retention} limit the oldest transactions (in the order they were
+ * recorded) are folded into an opening balance and dropped. The balance stays exact; balances from a date
+ * are answered only while every transaction from that date on is still retained.
+ */
+@Fallback
 @Service
-public class DefaultLedgerService implements LedgerService {
+public class DefaultLedgerService implements LedgerService, LedgerHistory {
 
-  private final List<Transaction> transactions = new ArrayList<>();
+  private final TransactionStore transactions;
+  private final ApplicationEventPublisher events;
+  private final RetentionProperties retention;
   private BigDecimal balance = BigDecimal.ZERO;
 
+  private BigDecimal openingBalance = BigDecimal.ZERO;
+  // Latest timestamp among the dropped transactions, null while nothing was dropped.
+  private LocalDateTime droppedUntil;
+  private long dropped;
+
+  public DefaultLedgerService() {
+    this(new ListTransactionStore(), event -> {
+    });
+  }
+
+  public DefaultLedgerService(TransactionStore transactions, ApplicationEventPublisher events) {
+    this(transactions, events, RetentionProperties.unlimited());
+  }
+
+  @Autowired
+  public DefaultLedgerService(TransactionStore transactions, ApplicationEventPublisher events,
+                              RetentionProperties retention) {
+    this.transactions = transactions;
+    this.events = events;
+    this.retention = retention;
+  }
 
   @Override
-  public void deposit(BigDecimal amount) {
+  public synchronized void deposit(BigDecimal amount) {
     if (amount.compareTo(BigDecimal.ZERO) <= 0) {
       throw new IllegalArgumentException("Amount must be positive");
     }
 
-    transactions.add(transactionFor(DEPOSIT, amount));
-
-    balance = balance.add(amount);
+    record(transactionFor(DEPOSIT, amount));
   }
 
   @Override
-  public void deposit(Transaction transaction) {
-
-    transactions.add(transaction);
-
-    balance = balance.add(transaction.amount());
+  public synchronized void deposit(Transaction transaction) {
+    record(transaction);
   }
 
 
   @Override
-  public void withdraw(BigDecimal amount) {
+  public synchronized void withdraw(BigDecimal amount) {
     if (amount.compareTo(BigDecimal.ZERO) <= 0) {
       throw new IllegalArgumentException("Amount must be positive");
     }
@@ -50,25 +90,171 @@ public class DefaultLedgerService implements LedgerService {
       throw new InsufficientBalanceException("Insufficient balance to withdraw " + amount);
     }
 
-    transactions.add(transactionFor(WITHDRAWAL, amount));
+    record(transactionFor(WITHDRAWAL, amount));
+  }
+
+  @Override
+  public synchronized void recordAll(List<Transaction> batch) {
+    transactions.ensureCapacity(batch.size());
+    batch.forEach(this::record);
+  }
+
+  private void record(Transaction transaction) {
+    transactions.add(transaction);
+
+    balance = transaction.type() == DEPOSIT
+            ? balance.add(transaction.amount())
+            : balance.subtract(transaction.amount());
+    enforceRetention();
+
+    events.publishEvent(new TransactionRecorded(transaction));
+  }
+
+  private void enforceRetention() {
+    int excess = retention.maxEntries() > 0 ? transactions.size() - retention.maxEntries() : 0;
+    LocalDateTime cutoff = retention.maxAge().isPositive() ? LocalDateTime.now().minus(retention.maxAge()) : null;
+    if (excess <= 0 && cutoff == null) {
+      return;
+    }
+
+    int count = 0;
+    while (count < transactions.size()) {
+      Transaction oldest = transactions.get(count);
+      if (count >= excess && (cutoff == null || !oldest.timestamp().isBefore(cutoff))) {
+        break;
+      }
+      openingBalance = oldest.type() == DEPOSIT
+              ? openingBalance.add(oldest.amount())
+              : openingBalance.subtract(oldest.amount());
+      if (droppedUntil == null || oldest.timestamp().isAfter(droppedUntil)) {
+        droppedUntil = oldest.timestamp();
+      }
+      count++;
+    }
+    if (count > 0) {
+      transactions.dropOldest(count);
+      dropped += count;
+    }
+  }
+
+  @Override
+  public synchronized BigDecimal getBalance(Optional<LocalDateTime> dateOption) {
+    if (dateOption.isEmpty()) {
+      return openingBalance.add(transactions.signedSum(dateOption));
+    }
+    if (droppedUntil != null && !dateOption.get().isAfter(droppedUntil)) {
+      throw new HistoryNotRetainedException("Balance from " + dateOption.get().toLocalDate()
+              + " needs history that is no longer retained; only transactions after " + droppedUntil + " are");
+    }
+    return transactions.signedSum(dateOption);
+  }
+
+  @Override
+  public synchronized List<Transaction> getTransactions() {
+    return transactions.newestFirst();
+  }
+
+  // Scans the store in place: copying the whole history for every imported batch would dwarf the batch itself.
+  @Override
+  public synchronized Set<UUID> recordedIds(Collection<UUID> ids) {
+    Set<UUID> wanted = new HashSet<>(ids);
+    Set<UUID> recorded = new HashSet<>();
+    for (int index = 0; index < transactions.size() && recorded.size() < wanted.size(); index++) {
+      UUID id = transactions.get(index).id();
+      if (wanted.contains(id)) {
+        recorded.add(id);
+      }
+    }
+    return recorded;
+  }
+
+  @Override
+  public synchronized BigDecimal storedBalance() {
+    return balance;
+  }
+
+  @Override
+  public synchronized BigDecimal openingBalance() {
+    return openingBalance;
+  }
 
-    balance = balance.subtract(amount);
+  // Index ranges in insertion order, which is the order the balance was updated in. Ranges are numbered
+  // from the first transaction ever recorded, so they stay put when retention drops older ones.
+  @Override
+  public synchronized List<HistorySlice> slices(int count) {
+    int size = transactions.size();
+    int step = Math.max(1, (size + count - 1) / Math.max(1, count));
+
+    List<HistorySlice> result = new ArrayList<>();
+    for (int from = 0; from < size; from += step) {
+      long start = dropped + from;
+      long end = dropped + Math.min(size, from + step);
+      result.add(new HistorySlice("#" + start + "-#" + (end - 1), () -> {
+        List<Transaction> slice = new ArrayList<>((int) (end - start));
+        synchronized (this) {
+          if (start < dropped) {
+            throw new HistoryNotRetainedException(
+                    "Transactions from #" + start + " were dropped before they were read");
+          }
+          for (long index = start; index < end; index++) {
+            slice.add(transactions.get((int) (index - dropped)));
+          }
+        }
+        return slice;
+      }));
+    }
+    return result;
   }
 
+  // Both balances and a copy of the history are taken under the monitor, so writes (and the retention they
+  // trigger) landing while the slices are summed can't change what they are compared with.
   @Override
-  public BigDecimal getBalance(Optional<LocalDateTime> dateOption) {
+  public HistorySnapshot snapshot(int count) {
+    BigDecimal stored;
+    BigDecimal opening;
+    long first;
+    List<Transaction> copy;
+    synchronized (this) {
+      stored = balance;
+      opening = openingBalance;
+      first = dropped;
+      copy = new ArrayList<>(transactions.size());
+      for (int index = 0; index < transactions.size(); index++) {
+        copy.add(transactions.get(index));
+      }
+    }
+    int step = Math.max(1, (copy.size() + count - 1) / Math.max(1, count));
+    List<HistorySlice> slices = new ArrayList<>();
+    for (int from = 0; from < copy.size(); from += step) {
+      List<Transaction> slice = copy.subList(from, Math.min(copy.size(), from + step));
+      slices.add(new HistorySlice("#" + (first + from) + "-#" + (first + from + slice.size() - 1), () -> slice));
+    }
+    return new HistorySnapshot(stored, opening, slices);
+  }
 
-    return transactions.stream()
-            .filter(transaction -> dateOption
-                    .map(date -> !transaction.timestamp().isBefore(date))
-                    .orElse(true))
-            .map(transaction ->
-                    transaction.type() == DEPOSIT ? transaction.amount() : transaction.amount().negate())
-            .reduce(new BigDecimal(0), (amount, acc) -> acc.add(amount));
+  @Override
+  public void forEachChunk(int chunkSize, Consumer<List<Transaction>> consumer) {
+    forEachChunk(chunkSize, opening -> {
+    }, consumer);
   }
 
+  // Insertion order is not timestamp order once history is imported, so chunks come from a sorted snapshot,
+  // taken under the same lock as the opening balance it starts from.
   @Override
-  public List<Transaction> getTransactions() {
-    return List.copyOf(transactions).reversed();
+  public void forEachChunk(int chunkSize, Consumer<BigDecimal> opening, Consumer<List<Transaction>> consumer) {
+    List<Transaction> snapshot;
+    BigDecimal snapshotOpening;
+    synchronized (this) {
+      snapshotOpening = openingBalance;
+      snapshot = new ArrayList<>(transactions.size());
+      for (int index = 0; index < transactions.size(); index++) {
+        snapshot.add(transactions.get(index));
+      }
+    }
+    snapshot.sort(Comparator.comparing(Transaction::timestamp));
+    opening.accept(snapshotOpening);
+    for (int from = 0; from < snapshot.size(); from += chunkSize) {
+      consumer.accept(snapshot.subList(from, Math.min(snapshot.size(), from + chunkSize)));
+    }
   }
 }
@@ -0,0 +1,16 @@
+package com.my.coin.service;
+
+import com.my.coin.domain.Transaction;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A contiguous part of the ledger history in ledger order, read lazily so slices can be loaded in parallel.
+ */
+public record HistorySlice(String range, Supplier<List<Transaction>> reader) {
+
+  public List<Transaction> read() {
+    return reader.get();
+  }
+}
@@ -0,0 +1,11 @@
+package com.my.coin.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * The stored balance, the opening balance and the history slices, all taken at the same point so a write
+ * landing in between can't make them disagree.
+ */
+public record HistorySnapshot(BigDecimal storedBalance, BigDecimal openingBalance, List<HistorySlice> slices) {
+}
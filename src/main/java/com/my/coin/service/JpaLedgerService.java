@@ -1,68 +1,233 @@
 package com.my.coin.service;
 
 import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
 import com.my.coin.domain.TransactionType;
 import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.monitoring.BalanceScanEvent;
+import com.my.coin.monitoring.HistoryLoadEvent;
+import com.my.coin.monitoring.PersistEvent;
 import com.my.coin.persistence.entity.TransactionEntity;
+import com.my.coin.persistence.replica.ReadConsistency;
 import com.my.coin.persistence.repository.TransactionRepository;
-import org.springframework.context.annotation.Primary;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import static com.my.coin.domain.TransactionType.DEPOSIT;
 
-@Primary
 @Service("jpaLedger")
-public class JpaLedgerService implements LedgerService {
+public class JpaLedgerService implements LedgerService, LedgerHistory {
 
   private final TransactionRepository repository;
 
   private final TransactionMapper mapper;
 
-  public JpaLedgerService(TransactionRepository repository, TransactionMapper mapper) {
+  private final ApplicationEventPublisher events;
+
+  private final TransactionTemplate transactions;
+
+  private final TransactionTemplate snapshots;
+
+  private final ReentrantLock withdrawals = new ReentrantLock();
+
+  public JpaLedgerService(TransactionRepository repository, TransactionMapper mapper,
+                          ApplicationEventPublisher events, PlatformTransactionManager transactionManager) {
     this.repository = repository;
     this.mapper = mapper;
+    this.events = events;
+    this.transactions = new TransactionTemplate(transactionManager);
+    this.snapshots = new TransactionTemplate(transactionManager);
+    this.snapshots.setReadOnly(true);
+    this.snapshots.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
   }
 
   @Override
+  @Transactional
   public void deposit(BigDecimal amount) {
-    repository.save(mapper.toEntity(Transaction.transactionFor(TransactionType.DEPOSIT, amount)));
+    record(Transaction.transactionFor(TransactionType.DEPOSIT, amount));
   }
 
   @Override
+  @Transactional
   public void deposit(Transaction transaction) {
-    repository.save(mapper.toEntity(transaction));
+    record(transaction);
   }
 
+  /**
+   * Withdrawals are serialised and the lock is held until the transaction commits, so two of them can't
+   * both pass the balance check against the same committed balance. Deposits need no lock: they only
+   * raise the balance. The lock is per process; when called inside an outer transaction it is released
+   * before that one commits.
+   */
   @Override
   public void withdraw(BigDecimal amount) {
-    BigDecimal balance = getBalance(Optional.empty());
-    if (balance.compareTo(amount) < 0) {
-      throw new InsufficientBalanceException("Insufficient balance to withdraw " + amount);
+    withdrawals.lock();
+    try {
+      transactions.executeWithoutResult(status -> {
+        BigDecimal balance = getBalance(Optional.empty());
+        if (balance.compareTo(amount) < 0) {
+          throw new InsufficientBalanceException("Insufficient balance to withdraw " + amount);
+        }
+        record(Transaction.transactionFor(TransactionType.WITHDRAWAL, amount));
+      });
+    } finally {
+      withdrawals.unlock();
+    }
+  }
+
+  @Override
+  @Transactional
+  public void recordAll(List<Transaction> transactions) {
+    PersistEvent event = new PersistEvent();
+    event.begin();
+    repository.saveAll(transactions.stream().map(mapper::toEntity).toList());
+    event.end();
+    if (event.shouldCommit()) {
+      event.rows = transactions.size();
+      event.commit();
+    }
+    transactions.forEach(transaction -> events.publishEvent(new TransactionRecorded(transaction)));
+  }
+
+  private void record(Transaction transaction) {
+    PersistEvent event = new PersistEvent();
+    event.begin();
+    repository.save(mapper.toEntity(transaction));
+    event.end();
+    if (event.shouldCommit()) {
+      event.rows = 1;
+      event.commit();
     }
-    repository.save(mapper.toEntity(Transaction.transactionFor(TransactionType.WITHDRAWAL, amount)));
+    events.publishEvent(new TransactionRecorded(transaction));
   }
 
+  // The API tags balance and history answers with the current ledger version, so these reads never take a
+  // lagging replica. The flag is in place before the first statement, which is when the connection is routed.
   @Override
+  @Transactional(readOnly = true)
   public BigDecimal getBalance(Optional<LocalDateTime> dateOption) {
+    return ReadConsistency.requireCurrent(() -> sumBalance(dateOption));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public List<Transaction> getTransactions() {
+    return ReadConsistency.requireCurrent(this::loadHistory);
+  }
 
-    return repository.findAll().stream()
+  private BigDecimal sumBalance(Optional<LocalDateTime> dateOption) {
+    BalanceScanEvent event = new BalanceScanEvent();
+    event.begin();
+    List<Transaction> transactions = repository.findAllTransactions();
+    BigDecimal balance = transactions.stream()
             .filter(transaction -> dateOption
-                    .map(date -> !transaction.getTimestamp().isBefore(date))
+                    .map(date -> !transaction.timestamp().isBefore(date))
                     .orElse(true))
             .map(transaction ->
-                    transaction.getType() == DEPOSIT ? transaction.getAmount() : transaction.getAmount().negate())
+                    transaction.type() == DEPOSIT ? transaction.amount() : transaction.amount().negate())
             .reduce(BigDecimal.ZERO, BigDecimal::add);
+    event.end();
+    if (event.shouldCommit()) {
+      event.transactionsScanned = transactions.size();
+      event.fromDate = dateOption.isPresent();
+      event.commit();
+    }
+    return balance;
+  }
+
+  private List<Transaction> loadHistory() {
+    HistoryLoadEvent event = new HistoryLoadEvent();
+    event.begin();
+    List<Transaction> transactions = repository.findAllTransactionsByOrderByTimestampDesc();
+    event.end();
+    if (event.shouldCommit()) {
+      event.rows = transactions.size();
+      event.commit();
+    }
+    return transactions;
   }
 
   @Override
-  public List<Transaction> getTransactions() {
-    return repository.findAllByOrderByTimestampDesc().stream()
-            .map(mapper::toDomain)
-            .toList();
+  @Transactional(readOnly = true)
+  public Set<UUID> recordedIds(Collection<UUID> ids) {
+    return repository.findIdsIn(ids);
+  }
+
+  @Override
+  public BigDecimal storedBalance() {
+    return repository.sumSignedAmounts().orElse(BigDecimal.ZERO);
+  }
+
+  // Each chunk is its own short read, so a long walk never holds a transaction open against live writes.
+  @Override
+  public void forEachChunk(int chunkSize, Consumer<List<Transaction>> consumer) {
+    Limit limit = Limit.of(chunkSize);
+    List<Transaction> chunk = repository.findFirstTransactions(limit);
+    while (!chunk.isEmpty()) {
+      consumer.accept(chunk);
+      Transaction last = chunk.getLast();
+      chunk = chunk.size() < chunkSize
+              ? List.of()
+              : repository.findTransactionsAfter(last.timestamp(), last.id(), limit);
+    }
+  }
+
+  // One repeatable-read transaction, so the balance and every slice see the same committed rows. The slices are
+  // read inside it rather than lazily, which gives up loading them in parallel.
+  @Override
+  public HistorySnapshot snapshot(int count) {
+    return snapshots.execute(status -> {
+      BigDecimal stored = storedBalance();
+      List<HistorySlice> slices = slices(count).stream()
+              .map(slice -> {
+                List<Transaction> rows = slice.read();
+                return new HistorySlice(slice.range(), () -> rows);
+              })
+              .toList();
+      return new HistorySnapshot(stored, BigDecimal.ZERO, slices);
+    });
+  }
+
+  // Equal time ranges over [first, last]; each slice is its own read-only query, so slices can load concurrently.
+  @Override
+  public List<HistorySlice> slices(int count) {
+    Optional<LocalDateTime> first = repository.findFirstTimestamp();
+    Optional<LocalDateTime> last = repository.findLastTimestamp();
+    if (first.isEmpty() || last.isEmpty()) {
+      return List.of();
+    }
+    long step = Duration.between(first.get(), last.get()).toNanos() / Math.max(1, count);
+    int slices = step == 0 ? 1 : count;
+
+    List<HistorySlice> result = new ArrayList<>(slices);
+    for (int i = 0; i < slices; i++) {
+      LocalDateTime from = first.get().plusNanos(step * i);
+      if (i == slices - 1) {
+        result.add(new HistorySlice("[" + from + ", " + last.get() + "]",
+                () -> repository.findAllTransactionsFrom(from)));
+      } else {
+        LocalDateTime to = first.get().plusNanos(step * (i + 1));
+        result.add(new HistorySlice("[" + from + ", " + to + ")",
+                () -> repository.findAllTransactionsBetween(from, to)));
+      }
+    }
+    return result;
   }
 }
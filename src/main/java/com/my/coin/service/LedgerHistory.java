@@ -0,0 +1,51 @@
+package com.my.coin.service;
+
+import com.my.coin.domain.Transaction;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bulk access to a ledger's history for reconciliation, independent of the request paths.
+ */
+public interface LedgerHistory {
+
+  /**
+   * The balance as the ledger itself keeps it, without summing the history.
+   */
+  BigDecimal storedBalance();
+
+  /**
+   * The balance carried forward from history the ledger no longer keeps; the slices and chunks start from it.
+   */
+  default BigDecimal openingBalance() {
+    return BigDecimal.ZERO;
+  }
+
+  /**
+   * Splits the whole history into at most {@code count} consecutive slices, oldest first.
+   */
+  List<HistorySlice> slices(int count);
+
+  /**
+   * {@link #storedBalance()}, {@link #openingBalance()} and {@link #slices(int)} read together, for checks that
+   * compare them with each other.
+   */
+  HistorySnapshot snapshot(int count);
+
+  /**
+   * Hands the whole history to {@code consumer} in timestamp order, at most {@code chunkSize} transactions
+   * at a time.
+   */
+  void forEachChunk(int chunkSize, Consumer<List<Transaction>> consumer);
+
+  /**
+   * Like {@link #forEachChunk(int, Consumer)}, but first hands {@code opening} the opening balance the chunks
+   * start from, read from the same snapshot as the chunks so retention cannot move it in between.
+   */
+  default void forEachChunk(int chunkSize, Consumer<BigDecimal> opening, Consumer<List<Transaction>> consumer) {
+    opening.accept(openingBalance());
+    forEachChunk(chunkSize, consumer);
+  }
+}
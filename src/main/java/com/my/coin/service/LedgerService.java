@@ -4,8 +4,13 @@ import com.my.coin.domain.Transaction;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 public interface LedgerService {
 
@@ -18,4 +23,22 @@ public interface LedgerService {
   BigDecimal getBalance(Optional<LocalDateTime> dateOption);
 
   List<Transaction> getTransactions();
+
+  /**
+   * Records already-validated transactions as they are; implementations may persist them as one batch.
+   */
+  default void recordAll(List<Transaction> transactions) {
+    transactions.forEach(this::deposit);
+  }
+
+  /**
+   * Which of {@code ids} are already recorded, so a replayed batch can be told apart from new rows.
+   */
+  default Set<UUID> recordedIds(Collection<UUID> ids) {
+    Set<UUID> wanted = new HashSet<>(ids);
+    return getTransactions().stream()
+            .map(Transaction::id)
+            .filter(wanted::contains)
+            .collect(Collectors.toSet());
+  }
 }
@@ -0,0 +1,32 @@
+package com.my.coin.service;
+
+import com.my.coin.domain.TransactionRecorded;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the ledger contents, bumped once a recorded transaction has committed. The epoch is
+ * random per process so tags handed out before a restart never match again.
+ */
+@Component
+public class LedgerVersion {
+
+  private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+  private final AtomicLong version = new AtomicLong();
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onRecorded(TransactionRecorded event) {
+    version.incrementAndGet();
+  }
+
+  /**
+   * Strong entity tag for a view of the current version. Take it before reading: a read that races a commit
+   * then carries the older tag and is simply refetched next time, never cached as newer than it is.
+   */
+  public String tag(String view) {
+    return "\"" + epoch + "-" + version.get() + "-" + view + "\"";
+  }
+}
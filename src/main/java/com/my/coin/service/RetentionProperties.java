@@ -0,0 +1,19 @@
+package com.my.coin.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * How much history the in-memory ledger keeps; {@code maxEntries} of 0 and a zero {@code maxAge} mean no limit.
+ */
+@ConfigurationProperties("ledger.memory.retention")
+public record RetentionProperties(
+        @DefaultValue("0") int maxEntries,
+        @DefaultValue("0s") Duration maxAge) {
+
+  public static RetentionProperties unlimited() {
+    return new RetentionProperties(0, Duration.ZERO);
+  }
+}
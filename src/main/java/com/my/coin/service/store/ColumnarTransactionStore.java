@@ -0,0 +1,160 @@
+package com.my.coin.service.store;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps transactions in fixed-size segments of primitive columns (about 34 bytes per transaction) instead
+ * of one {@link Transaction} object graph each, so history adds almost nothing for the GC to trace.
+ * {@link Transaction} objects are only materialised when handed out.
+ */
+public class ColumnarTransactionStore implements TransactionStore {
+
+  static final int SEGMENT_SIZE = 1 << 16;
+  private static final int MAX_SCALE = 18;
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+  private static final TransactionType[] TYPES = TransactionType.values();
+
+  private final List<Segment> segments = new ArrayList<>();
+  // Position of index 0 within the first segment; segments are released once everything in them is dropped.
+  private int head;
+  private int size;
+
+  @Override
+  public void add(Transaction transaction) {
+    BigDecimal amount = fit(transaction.amount());
+    if (!fits(amount)) {
+      throw new IllegalArgumentException("Amount out of range: " + transaction.amount());
+    }
+    long timestamp = toEpochNanos(transaction.timestamp());
+
+    int offset = (head + size) % SEGMENT_SIZE;
+    if (offset == 0) {
+      segments.add(new Segment());
+    }
+    Segment segment = segments.getLast();
+    segment.idHigh[offset] = transaction.id().getMostSignificantBits();
+    segment.idLow[offset] = transaction.id().getLeastSignificantBits();
+    segment.timestamps[offset] = timestamp;
+    segment.unscaledAmounts[offset] = amount.unscaledValue().longValue();
+    segment.scales[offset] = (byte) amount.scale();
+    segment.types[offset] = (byte) transaction.type().ordinal();
+    size++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Transaction get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    int position = head + index;
+    Segment segment = segments.get(position / SEGMENT_SIZE);
+    int offset = position % SEGMENT_SIZE;
+    return new Transaction(
+            new UUID(segment.idHigh[offset], segment.idLow[offset]),
+            TYPES[segment.types[offset]],
+            BigDecimal.valueOf(segment.unscaledAmounts[offset], segment.scales[offset]),
+            fromEpochNanos(segment.timestamps[offset]));
+  }
+
+  @Override
+  public void dropOldest(int count) {
+    if (count < 0 || count > size) {
+      throw new IndexOutOfBoundsException(count);
+    }
+    head += count;
+    size -= count;
+    while (head >= SEGMENT_SIZE || (size == 0 && !segments.isEmpty() && head > 0)) {
+      segments.removeFirst();
+      head = Math.max(0, head - SEGMENT_SIZE);
+    }
+  }
+
+  // Kept as given when it fits the columns; otherwise trailing zeros are dropped, which only changes the scale.
+  private static BigDecimal fit(BigDecimal amount) {
+    BigDecimal fitted = amount.scale() < 0 ? amount.setScale(0) : amount;
+    if (!fits(fitted)) {
+      fitted = fitted.stripTrailingZeros();
+      fitted = fitted.scale() < 0 ? fitted.setScale(0) : fitted;
+    }
+    return fitted;
+  }
+
+  private static boolean fits(BigDecimal amount) {
+    return amount.scale() <= MAX_SCALE && amount.unscaledValue().bitLength() <= 63;
+  }
+
+  // Sums the raw columns per scale, so no Transaction or BigDecimal is created per row.
+  @Override
+  public BigDecimal signedSum(Optional<LocalDateTime> dateOption) {
+    long from = dateOption.map(ColumnarTransactionStore::toEpochNanos).orElse(Long.MIN_VALUE);
+    long[] sums = new long[MAX_SCALE + 1];
+    boolean[] present = new boolean[MAX_SCALE + 1];
+    BigDecimal total = BigDecimal.ZERO;
+
+    for (int position = head; position < head + size; position++) {
+      Segment segment = segments.get(position / SEGMENT_SIZE);
+      int offset = position % SEGMENT_SIZE;
+      if (segment.timestamps[offset] < from) {
+        continue;
+      }
+      int scale = segment.scales[offset];
+      long amount = segment.types[offset] == TransactionType.DEPOSIT.ordinal()
+              ? segment.unscaledAmounts[offset]
+              : -segment.unscaledAmounts[offset];
+      present[scale] = true;
+      try {
+        sums[scale] = Math.addExact(sums[scale], amount);
+      } catch (ArithmeticException overflow) {
+        total = total.add(BigDecimal.valueOf(sums[scale], scale)).add(BigDecimal.valueOf(amount, scale));
+        sums[scale] = 0;
+      }
+    }
+
+    for (int scale = 0; scale <= MAX_SCALE; scale++) {
+      if (present[scale]) {
+        total = total.add(BigDecimal.valueOf(sums[scale], scale));
+      }
+    }
+    return total;
+  }
+
+  private static long toEpochNanos(LocalDateTime timestamp) {
+    try {
+      return Math.addExact(
+              Math.multiplyExact(timestamp.toEpochSecond(ZoneOffset.UTC), NANOS_PER_SECOND),
+              timestamp.getNano());
+    } catch (ArithmeticException e) {
+      throw new IllegalArgumentException("Timestamp out of range: " + timestamp);
+    }
+  }
+
+  private static LocalDateTime fromEpochNanos(long epochNanos) {
+    return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+            (int) Math.floorMod(epochNanos, NANOS_PER_SECOND),
+            ZoneOffset.UTC);
+  }
+
+  private static final class Segment {
+    final long[] idHigh = new long[SEGMENT_SIZE];
+    final long[] idLow = new long[SEGMENT_SIZE];
+    final long[] timestamps = new long[SEGMENT_SIZE];
+    final long[] unscaledAmounts = new long[SEGMENT_SIZE];
+    final byte[] scales = new byte[SEGMENT_SIZE];
+    final byte[] types = new byte[SEGMENT_SIZE];
+  }
+}
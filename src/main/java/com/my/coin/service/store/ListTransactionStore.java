@@ -0,0 +1,61 @@
+package com.my.coin.service.store;
+
+import com.my.coin.domain.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dropped transactions are skipped over by {@code head} and only compacted away once they make up half
+ * the list, so dropping one at a time stays cheap.
+ */
+public class ListTransactionStore implements TransactionStore {
+
+  private static final int MIN_COMPACTION = 1024;
+
+  private final ArrayList<Transaction> transactions = new ArrayList<>();
+  private int head;
+
+  @Override
+  public void add(Transaction transaction) {
+    transactions.add(transaction);
+  }
+
+  @Override
+  public void ensureCapacity(int additional) {
+    transactions.ensureCapacity(transactions.size() + additional);
+  }
+
+  @Override
+  public int size() {
+    return transactions.size() - head;
+  }
+
+  @Override
+  public Transaction get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return transactions.get(head + index);
+  }
+
+  @Override
+  public void dropOldest(int count) {
+    if (count < 0 || count > size()) {
+      throw new IndexOutOfBoundsException(count);
+    }
+    for (int index = head; index < head + count; index++) {
+      transactions.set(index, null);
+    }
+    head += count;
+    if (head >= MIN_COMPACTION && head >= transactions.size() / 2) {
+      transactions.subList(0, head).clear();
+      head = 0;
+    }
+  }
+
+  @Override
+  public List<Transaction> newestFirst() {
+    return List.copyOf(transactions.subList(head, transactions.size())).reversed();
+  }
+}
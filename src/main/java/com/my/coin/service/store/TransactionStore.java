@@ -0,0 +1,61 @@
+package com.my.coin.service.store;
+
+import com.my.coin.domain.Transaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+
+/**
+ * Append-only storage behind the in-memory ledger, indexed in insertion order.
+ */
+public interface TransactionStore {
+
+  void add(Transaction transaction);
+
+  int size();
+
+  Transaction get(int index);
+
+  /**
+   * Forgets the {@code count} oldest transactions; the rest move down to index 0.
+   */
+  void dropOldest(int count);
+
+  /**
+   * Hint that {@code additional} transactions are about to be added.
+   */
+  default void ensureCapacity(int additional) {
+  }
+
+  default Stream<Transaction> stream() {
+    return IntStream.range(0, size()).mapToObj(this::get);
+  }
+
+  default List<Transaction> newestFirst() {
+    List<Transaction> result = new ArrayList<>(size());
+    for (int i = size() - 1; i >= 0; i--) {
+      result.add(get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Deposits minus withdrawals, optionally only for transactions at or after the given date.
+   */
+  default BigDecimal signedSum(Optional<LocalDateTime> dateOption) {
+    return stream()
+            .filter(transaction -> dateOption
+                    .map(date -> !transaction.timestamp().isBefore(date))
+                    .orElse(true))
+            .map(transaction ->
+                    transaction.type() == DEPOSIT ? transaction.amount() : transaction.amount().negate())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+}
@@ -0,0 +1,17 @@
+package com.my.coin.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One period of the ledger, {@code [from, to)}.
+ */
+public record Statement(
+        LocalDate from,
+        LocalDate to,
+        BigDecimal openingBalance,
+        BigDecimal deposits,
+        BigDecimal withdrawals,
+        BigDecimal closingBalance,
+        long transactions) {
+}
@@ -0,0 +1,183 @@
+package com.my.coin.statement;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.service.LedgerHistory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+
+/**
+ * Produces a statement per period in one pass over the history: chunks arrive in timestamp order and
+ * each period's opening balance is the previous one's closing balance, so no period is summed twice.
+ * Only periods that ended before the run are written, and statement files that already exist are kept.
+ * Background runs go to a single minimum-priority thread of its own.
+ */
+@Service
+public class StatementGenerator {
+
+  private final LedgerHistory history;
+  private final StatementProperties properties;
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(
+          Thread.ofPlatform().name("ledger-statements").daemon().priority(Thread.MIN_PRIORITY).factory());
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  public StatementGenerator(LedgerHistory history, StatementProperties properties) {
+    this.history = history;
+    this.properties = properties;
+  }
+
+  /**
+   * Starts a background run for every period before today, unless one is still going.
+   */
+  public Optional<CompletableFuture<List<Statement>>> generateInBackground() {
+    if (!running.compareAndSet(false, true)) {
+      return Optional.empty();
+    }
+    return Optional.of(CompletableFuture.supplyAsync(() -> generate(LocalDate.now()), executor)
+            .whenComplete((statements, error) -> running.set(false)));
+  }
+
+  /**
+   * Generates statements for the periods that end on or before {@code until}, on the calling thread.
+   */
+  public List<Statement> generate(LocalDate until) {
+    try {
+      Files.createDirectories(properties.directory());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    Run run = new Run(until);
+    try {
+      history.forEachChunk(properties.chunkSize(), run::start, chunk -> {
+        chunk.forEach(run::add);
+        pause();
+      });
+      run.finish();
+    } finally {
+      run.abandon();
+    }
+    return run.statements;
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void pause() {
+    if (properties.pause().isZero()) {
+      return;
+    }
+    try {
+      Thread.sleep(properties.pause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Statement generation interrupted", e);
+    }
+  }
+
+  private final class Run {
+
+    private final StatementPeriod period = properties.period();
+    private final LocalDate until;
+    private final List<Statement> statements = new ArrayList<>();
+
+    private BigDecimal balance;
+    private LocalDate start;
+    private BigDecimal opening;
+    private BigDecimal deposits;
+    private BigDecimal withdrawals;
+    private long transactions;
+    private StatementWriter writer;
+
+    Run(LocalDate until) {
+      this.until = until;
+    }
+
+    void start(BigDecimal openingBalance) {
+      balance = openingBalance;
+    }
+
+    void add(Transaction transaction) {
+      LocalDate periodStart = period.startOf(transaction.timestamp());
+      if (period.next(periodStart).isAfter(until)) {
+        return;
+      }
+      if (start == null) {
+        open(periodStart);
+      }
+      // Periods without transactions still get a statement carrying the balance forward.
+      while (start.isBefore(periodStart)) {
+        close();
+        open(period.next(start));
+      }
+      if (transaction.type() == DEPOSIT) {
+        deposits = deposits.add(transaction.amount());
+        balance = balance.add(transaction.amount());
+      } else {
+        withdrawals = withdrawals.add(transaction.amount());
+        balance = balance.subtract(transaction.amount());
+      }
+      transactions++;
+      if (writer != null) {
+        writer.write(transaction, balance);
+      }
+    }
+
+    void finish() {
+      if (start == null) {
+        return;
+      }
+      close();
+      for (LocalDate next = period.next(start); !period.next(next).isAfter(until); next = period.next(next)) {
+        open(next);
+        close();
+      }
+    }
+
+    void abandon() {
+      if (writer != null) {
+        writer.close();
+        writer = null;
+      }
+    }
+
+    private void open(LocalDate periodStart) {
+      start = periodStart;
+      opening = balance;
+      deposits = BigDecimal.ZERO;
+      withdrawals = BigDecimal.ZERO;
+      transactions = 0;
+      Path file = properties.directory().resolve("statement-" + period.label(start) + ".txt");
+      writer = Files.exists(file) ? null : new StatementWriter(file, period.label(start), current());
+    }
+
+    private void close() {
+      Statement statement = current();
+      statements.add(statement);
+      if (writer != null) {
+        writer.finish(statement);
+        writer = null;
+      }
+    }
+
+    private Statement current() {
+      return new Statement(start, period.next(start), opening, deposits, withdrawals, balance, transactions);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.my.coin.statement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "ledger.statements.enabled", havingValue = "true")
+public class StatementJob {
+
+  private static final Logger log = LoggerFactory.getLogger(StatementJob.class);
+
+  private final StatementGenerator generator;
+
+  public StatementJob(StatementGenerator generator) {
+    this.generator = generator;
+  }
+
+  // Only hands the run to the generator's own thread, so the shared scheduler thread is free again at once.
+  @Scheduled(cron = "${ledger.statements.cron:0 30 0 1 * *}")
+  public void run() {
+    generator.generateInBackground().ifPresentOrElse(
+            run -> run.whenComplete((statements, error) -> {
+              if (error != null) {
+                log.warn("Statement generation failed", error);
+              } else {
+                log.info("Generated {} statements", statements.size());
+              }
+            }),
+            () -> log.info("Statement generation still running, skipping this run"));
+  }
+}
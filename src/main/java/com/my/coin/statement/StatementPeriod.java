@@ -0,0 +1,29 @@
+package com.my.coin.statement;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+public enum StatementPeriod {
+  DAY(DateTimeFormatter.ISO_LOCAL_DATE),
+  MONTH(DateTimeFormatter.ofPattern("yyyy-MM"));
+
+  private final DateTimeFormatter label;
+
+  StatementPeriod(DateTimeFormatter label) {
+    this.label = label;
+  }
+
+  LocalDate startOf(LocalDateTime timestamp) {
+    LocalDate date = timestamp.toLocalDate();
+    return this == MONTH ? date.withDayOfMonth(1) : date;
+  }
+
+  LocalDate next(LocalDate start) {
+    return this == MONTH ? start.plusMonths(1) : start.plusDays(1);
+  }
+
+  String label(LocalDate start) {
+    return label.format(start);
+  }
+}
@@ -0,0 +1,21 @@
+package com.my.coin.statement;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * History is read {@code chunkSize} transactions at a time with {@code pause} between chunks, so a
+ * statement run yields to live traffic instead of competing with it.
+ */
+@ConfigurationProperties("ledger.statements")
+public record StatementProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0 30 0 1 * *") String cron,
+        @DefaultValue("MONTH") StatementPeriod period,
+        @DefaultValue("statements") Path directory,
+        @DefaultValue("1000") int chunkSize,
+        @DefaultValue("PT0.01S") Duration pause) {
+}
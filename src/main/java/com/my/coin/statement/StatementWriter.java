@@ -0,0 +1,68 @@
+package com.my.coin.statement;
+
+import com.my.coin.domain.Transaction;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Streams one period's statement to a temporary file and moves it into place once closed, so a statement
+ * file is either complete or absent.
+ */
+class StatementWriter implements AutoCloseable {
+
+  private final Path target;
+  private final Path pending;
+  private final BufferedWriter out;
+
+  StatementWriter(Path target, String label, Statement opening) {
+    this.target = target;
+    this.pending = target.resolveSibling(target.getFileName() + ".tmp");
+    try {
+      this.out = Files.newBufferedWriter(pending);
+      out.write("Statement " + label + " [" + opening.from() + ", " + opening.to() + ")\n");
+      out.write("Opening balance: " + opening.openingBalance() + "\n");
+      out.write("timestamp,id,type,amount,balance\n");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void write(Transaction transaction, BigDecimal balance) {
+    try {
+      out.write(transaction.timestamp() + "," + transaction.id() + "," + transaction.type() + ","
+              + transaction.amount() + "," + balance + "\n");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void finish(Statement statement) {
+    try {
+      out.write("Deposits: " + statement.deposits() + "\n");
+      out.write("Withdrawals: " + statement.withdrawals() + "\n");
+      out.write("Closing balance: " + statement.closingBalance() + "\n");
+      out.write("Transactions: " + statement.transactions() + "\n");
+      out.close();
+      Files.move(pending, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Drops an unfinished statement.
+  @Override
+  public void close() {
+    try {
+      out.close();
+      Files.deleteIfExists(pending);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package com.my.coin.audit;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.service.DefaultLedgerService;
+import com.my.coin.service.RetentionProperties;
+import com.my.coin.service.store.ListTransactionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerAuditorTest {
+
+  private final DefaultLedgerService ledger = new DefaultLedgerService();
+  private final LedgerAuditor auditor = new LedgerAuditor(ledger, new AuditProperties(false, Duration.ofHours(1), 4, 8));
+
+  @AfterEach
+  void tearDown() {
+    auditor.shutdown();
+  }
+
+  @DisplayName("A ledger whose balance matches its history passes, with balances chained across ranges")
+  @Test
+  void consistentLedgerPasses() {
+    for (int i = 1; i <= 100; i++) {
+      ledger.deposit(BigDecimal.valueOf(i));
+      ledger.withdraw(BigDecimal.ONE);
+    }
+
+    AuditReport report = auditor.audit();
+
+    assertTrue(report.consistent());
+    assertEquals(200, report.transactions());
+    assertEquals(8, report.ranges().size());
+    assertEquals(0, BigDecimal.valueOf(4950).compareTo(report.historyBalance()));
+    for (int i = 1; i < report.ranges().size(); i++) {
+      assertEquals(report.ranges().get(i - 1).closingBalance(), report.ranges().get(i).openingBalance());
+    }
+  }
+
+  @DisplayName("History dropped by retention is accounted for by the carried-forward opening balance")
+  @Test
+  void retainedLedgerPasses() {
+    DefaultLedgerService retaining = new DefaultLedgerService(new ListTransactionStore(), event -> {
+    }, new RetentionProperties(10, Duration.ZERO));
+    LedgerAuditor retainingAuditor = new LedgerAuditor(retaining, new AuditProperties(false, Duration.ofHours(1), 2, 4));
+    try {
+      for (int i = 1; i <= 50; i++) {
+        retaining.deposit(BigDecimal.valueOf(i));
+      }
+
+      AuditReport report = retainingAuditor.audit();
+
+      assertTrue(report.consistent());
+      assertEquals(10, report.transactions());
+      assertEquals(0, BigDecimal.valueOf(1275).compareTo(report.historyBalance()));
+      assertEquals(0, BigDecimal.valueOf(820).compareTo(report.ranges().getFirst().openingBalance()));
+    } finally {
+      retainingAuditor.shutdown();
+    }
+  }
+
+  @DisplayName("Writes and retention landing while audits run never make a correct ledger look inconsistent")
+  @Test
+  void concurrentWritesKeepAuditConsistent() throws InterruptedException {
+    DefaultLedgerService retaining = new DefaultLedgerService(new ListTransactionStore(), event -> {
+    }, new RetentionProperties(1_000, Duration.ZERO));
+    LedgerAuditor retainingAuditor = new LedgerAuditor(retaining, new AuditProperties(false, Duration.ofHours(1), 2, 8));
+    AtomicBoolean writing = new AtomicBoolean(true);
+    Thread writer = Thread.ofPlatform().start(() -> {
+      while (writing.get()) {
+        retaining.deposit(BigDecimal.ONE);
+      }
+    });
+    try {
+      for (int i = 0; i < 50; i++) {
+        AuditReport report = retainingAuditor.audit();
+        assertTrue(report.consistent(), () -> "stored " + report.storedBalance() + ", history " + report.historyBalance());
+      }
+    } finally {
+      writing.set(false);
+      writer.join();
+      retainingAuditor.shutdown();
+    }
+  }
+
+  @DisplayName("A range where the running balance goes negative is reported")
+  @Test
+  void reportsOverdraftInRange() {
+    ledger.deposit(new Transaction(UUID.randomUUID(), TransactionType.WITHDRAWAL, BigDecimal.TEN, LocalDateTime.now()));
+    ledger.deposit(BigDecimal.valueOf(20));
+    for (int i = 0; i < 14; i++) {
+      ledger.deposit(BigDecimal.ONE);
+    }
+
+    AuditReport report = auditor.audit();
+
+    assertFalse(report.consistent());
+    assertEquals(0, report.storedBalance().compareTo(report.historyBalance()));
+    RangeAudit first = report.ranges().getFirst();
+    assertEquals(0, BigDecimal.valueOf(-10).compareTo(first.lowestBalance()));
+    assertEquals(1, first.discrepancies().size());
+    assertTrue(report.ranges().stream().skip(1).allMatch(range -> range.discrepancies().isEmpty()));
+  }
+
+  @DisplayName("An empty ledger is consistent")
+  @Test
+  void emptyLedgerIsConsistent() {
+    AuditReport report = auditor.audit();
+
+    assertTrue(report.consistent());
+    assertEquals(0, report.transactions());
+    assertTrue(report.ranges().isEmpty());
+  }
+}
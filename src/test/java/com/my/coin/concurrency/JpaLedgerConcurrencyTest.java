@@ -0,0 +1,40 @@
+package com.my.coin.concurrency;
+
+import com.my.coin.service.LedgerHistory;
+import com.my.coin.service.LedgerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Own in-memory database so the shared integration test data doesn't leak in.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:stressdb;DB_CLOSE_DELAY=-1")
+class JpaLedgerConcurrencyTest {
+
+  private static final Logger log = LoggerFactory.getLogger(JpaLedgerConcurrencyTest.class);
+
+  @Autowired
+  private LedgerService ledger;
+
+  @Autowired
+  @Qualifier("jpaLedger")
+  private LedgerHistory history;
+
+  @DisplayName("JPA ledger is linearizable under concurrent load")
+  @Test
+  void jpaLedger() throws Exception {
+    StressReport report = LedgerStressHarness.run(ledger, StressConfig.of(8, 150));
+    log.info("JpaLedgerService {}", report);
+
+    assertTrue(report.passed(), report::toString);
+    assertEquals(0, report.expectedBalance().compareTo(history.storedBalance()),
+            () -> "stored balance " + history.storedBalance() + ", accepted operations " + report.expectedBalance());
+  }
+}
@@ -0,0 +1,119 @@
+package com.my.coin.concurrency;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.sequencer.SequencedLedgerService;
+import com.my.coin.sequencer.SequencerProperties;
+import com.my.coin.service.DefaultLedgerService;
+import com.my.coin.service.LedgerService;
+import com.my.coin.service.store.ColumnarTransactionStore;
+import com.my.coin.service.store.ListTransactionStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.my.coin.domain.Transaction.transactionFor;
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+import static com.my.coin.domain.TransactionType.WITHDRAWAL;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LedgerConcurrencyTest {
+
+  private static final Logger log = LoggerFactory.getLogger(LedgerConcurrencyTest.class);
+
+  private static final StressConfig CONFIG = StressConfig.of(8, 500);
+
+  @DisplayName("In-memory ledger on a list store is linearizable under concurrent load")
+  @Test
+  void listStoreLedger() throws Exception {
+    assertPasses(new DefaultLedgerService(new ListTransactionStore(), event -> {
+    }));
+  }
+
+  @DisplayName("In-memory ledger on a columnar store is linearizable under concurrent load")
+  @Test
+  void columnarStoreLedger() throws Exception {
+    assertPasses(new DefaultLedgerService(new ColumnarTransactionStore(), event -> {
+    }));
+  }
+
+  @DisplayName("Sequenced ledger is linearizable under concurrent load")
+  @Test
+  void sequencedLedger() throws Exception {
+    DefaultLedgerService store = new DefaultLedgerService();
+    SequencedLedgerService sequenced = new SequencedLedgerService(store, store, new SequencerProperties(1024, 64, Duration.ofSeconds(30)));
+    sequenced.start();
+    try {
+      assertPasses(sequenced);
+    } finally {
+      sequenced.stop();
+    }
+  }
+
+  @DisplayName("The harness catches a check-then-act overdraft race")
+  @Test
+  void harnessDetectsRacyLedger() throws Exception {
+    StressReport report = LedgerStressHarness.run(new RacyLedger(), CONFIG);
+    log.info("racy ledger {}", report);
+
+    assertFalse(report.passed(), report::toString);
+  }
+
+  private static void assertPasses(LedgerService ledger) throws Exception {
+    StressReport report = LedgerStressHarness.run(ledger, CONFIG);
+    log.info("{} {}", ledger.getClass().getSimpleName(), report);
+
+    assertTrue(report.passed(), report::toString);
+  }
+
+  // Checks the balance and records in two separate critical sections, as an unguarded ledger effectively does.
+  private static final class RacyLedger implements LedgerService {
+
+    private final List<Transaction> transactions = Collections.synchronizedList(new ArrayList<>());
+
+    @Override
+    public void deposit(BigDecimal amount) {
+      transactions.add(transactionFor(DEPOSIT, amount));
+    }
+
+    @Override
+    public void deposit(Transaction transaction) {
+      transactions.add(transaction);
+    }
+
+    @Override
+    public void withdraw(BigDecimal amount) {
+      if (getBalance(Optional.empty()).compareTo(amount) < 0) {
+        throw new InsufficientBalanceException("Insufficient balance to withdraw " + amount);
+      }
+      Thread.yield();
+      transactions.add(transactionFor(WITHDRAWAL, amount));
+    }
+
+    @Override
+    public BigDecimal getBalance(Optional<LocalDateTime> dateOption) {
+      synchronized (transactions) {
+        return transactions.stream()
+                .map(tx -> tx.type() == DEPOSIT ? tx.amount() : tx.amount().negate())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+      }
+    }
+
+    @Override
+    public List<Transaction> getTransactions() {
+      synchronized (transactions) {
+        return List.copyOf(transactions).reversed();
+      }
+    }
+  }
+}
@@ -0,0 +1,138 @@
+package com.my.coin.concurrency;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.service.LedgerService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.my.coin.domain.TransactionType.DEPOSIT;
+
+/**
+ * Runs a randomised mix of deposits, withdrawals and balance reads against a {@link LedgerService} from
+ * several threads, then checks the invariants and (optionally) linearizability of what the clients saw.
+ * The ledger must be quiescent before and after the run.
+ */
+final class LedgerStressHarness {
+
+  private LedgerStressHarness() {
+  }
+
+  static StressReport run(LedgerService ledger, StressConfig config) throws InterruptedException {
+    BigDecimal initialBalance = ledger.getBalance(Optional.empty());
+    int initialTransactions = ledger.getTransactions().size();
+
+    Collection<Operation> recorded = new ConcurrentLinkedQueue<>();
+    CountDownLatch start = new CountDownLatch(1);
+    long started;
+    try (ExecutorService executor = Executors.newFixedThreadPool(config.threads())) {
+      for (int t = 0; t < config.threads(); t++) {
+        Random random = new Random(config.seed() + t);
+        executor.submit(() -> {
+          List<Operation> local = new ArrayList<>(config.operationsPerThread());
+          start.await();
+          for (int i = 0; i < config.operationsPerThread(); i++) {
+            local.add(invoke(ledger, config, random));
+          }
+          recorded.addAll(local);
+          return null;
+        });
+      }
+      started = System.nanoTime();
+      start.countDown();
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+    List<Operation> history = List.copyOf(recorded);
+    BigDecimal expected = history.stream()
+            .filter(op -> op.outcome() == Operation.Outcome.OK && op.kind() != Operation.Kind.BALANCE)
+            .map(op -> op.kind() == Operation.Kind.DEPOSIT ? op.amount() : op.amount().negate())
+            .reduce(initialBalance, BigDecimal::add);
+    List<String> violations = checkInvariants(ledger, history, expected, initialTransactions);
+    Boolean linearizable = config.checkLinearizability()
+            ? LinearizabilityChecker.isLinearizable(history, initialBalance)
+            : null;
+    return new StressReport(history.size(), elapsed, StressReport.latenciesOf(history), violations, linearizable,
+            expected);
+  }
+
+  private static Operation invoke(LedgerService ledger, StressConfig config, Random random) {
+    int pick = random.nextInt(config.depositWeight() + config.withdrawWeight() + config.balanceWeight());
+    Operation.Kind kind = pick < config.depositWeight() ? Operation.Kind.DEPOSIT
+            : pick < config.depositWeight() + config.withdrawWeight() ? Operation.Kind.WITHDRAW
+            : Operation.Kind.BALANCE;
+    BigDecimal amount = kind == Operation.Kind.BALANCE ? null : BigDecimal.valueOf(1 + random.nextInt(config.maxAmount()));
+
+    long invokedAt = System.nanoTime();
+    Operation.Outcome outcome = Operation.Outcome.OK;
+    BigDecimal observed = null;
+    try {
+      switch (kind) {
+        case DEPOSIT -> ledger.deposit(amount);
+        case WITHDRAW -> ledger.withdraw(amount);
+        case BALANCE -> observed = ledger.getBalance(Optional.empty());
+      }
+    } catch (InsufficientBalanceException e) {
+      outcome = Operation.Outcome.REJECTED;
+    } catch (RuntimeException e) {
+      outcome = Operation.Outcome.FAILED;
+    }
+    return new Operation(kind, amount, outcome, observed, invokedAt, System.nanoTime());
+  }
+
+  private static List<String> checkInvariants(LedgerService ledger, List<Operation> history,
+                                              BigDecimal expected, int initialTransactions) {
+    List<String> violations = new ArrayList<>();
+
+    long failed = history.stream().filter(op -> op.outcome() == Operation.Outcome.FAILED).count();
+    if (failed > 0) {
+      violations.add(failed + " operations failed unexpectedly");
+    }
+
+    BigDecimal lowest = history.stream()
+            .filter(op -> op.kind() == Operation.Kind.BALANCE && op.observed() != null)
+            .map(Operation::observed)
+            .min(BigDecimal::compareTo)
+            .orElse(BigDecimal.ZERO);
+    BigDecimal balance = ledger.getBalance(Optional.empty());
+    if (lowest.signum() < 0 || balance.signum() < 0) {
+      violations.add("balance went negative: lowest observed " + lowest + ", final " + balance);
+    }
+
+    // Only meaningful for in-memory ledgers: the JPA balance is itself a sum over the stored rows.
+    List<Transaction> transactions = ledger.getTransactions();
+    BigDecimal historySum = transactions.stream()
+            .map(tx -> tx.type() == DEPOSIT ? tx.amount() : tx.amount().negate())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+    if (historySum.compareTo(balance) != 0) {
+      violations.add("balance " + balance + " differs from history sum " + historySum);
+    }
+
+    if (expected.compareTo(balance) != 0) {
+      violations.add("balance " + balance + " differs from the accepted operations' " + expected);
+    }
+
+    long accepted = history.stream()
+            .filter(op -> op.outcome() == Operation.Outcome.OK && op.kind() != Operation.Kind.BALANCE)
+            .count();
+    if (transactions.size() - initialTransactions != accepted) {
+      violations.add((transactions.size() - initialTransactions) + " transactions recorded for "
+              + accepted + " accepted operations");
+    }
+    if (new HashSet<>(transactions.stream().map(Transaction::id).toList()).size() != transactions.size()) {
+      violations.add("duplicate transaction ids in history");
+    }
+    return violations;
+  }
+}
@@ -0,0 +1,142 @@
+package com.my.coin.concurrency;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Wing &amp; Gong's search with Lowe's memoisation: tries to order the operations so that each takes effect
+ * between its invocation and its return and the sequence is valid for a single-threaded ledger.
+ * Operations that failed unexpectedly are left out; the harness reports those separately.
+ */
+final class LinearizabilityChecker {
+
+  private LinearizabilityChecker() {
+  }
+
+  static boolean isLinearizable(List<Operation> history, BigDecimal initialBalance) {
+    Entry head = link(history.stream().filter(op -> op.outcome() != Operation.Outcome.FAILED).toList());
+    Deque<Frame> stack = new ArrayDeque<>();
+    Set<Configuration> seen = new HashSet<>();
+    BitSet linearized = new BitSet();
+    BigDecimal state = initialBalance.stripTrailingZeros();
+
+    Entry entry = head.next;
+    while (head.next != null) {
+      if (entry.call) {
+        BigDecimal next = apply(state, entry.operation);
+        if (next != null) {
+          BitSet candidate = (BitSet) linearized.clone();
+          candidate.set(entry.id);
+          if (seen.add(new Configuration(candidate, next))) {
+            stack.push(new Frame(entry, state));
+            linearized = candidate;
+            state = next;
+            entry.lift();
+            entry = head.next;
+            continue;
+          }
+        }
+        entry = entry.next;
+      } else {
+        // The earliest pending return: whatever took effect so far leaves it no valid place, so backtrack.
+        if (stack.isEmpty()) {
+          return false;
+        }
+        Frame frame = stack.pop();
+        state = frame.state;
+        linearized = (BitSet) linearized.clone();
+        linearized.clear(frame.entry.id);
+        frame.entry.unlift();
+        entry = frame.entry.next;
+      }
+    }
+    return true;
+  }
+
+  // The balance after applying the operation, or null if a sequential ledger could not have answered that way.
+  private static BigDecimal apply(BigDecimal balance, Operation operation) {
+    return switch (operation.kind()) {
+      case DEPOSIT -> balance.add(operation.amount()).stripTrailingZeros();
+      case WITHDRAW -> {
+        boolean covered = balance.compareTo(operation.amount()) >= 0;
+        if (operation.outcome() == Operation.Outcome.OK) {
+          yield covered ? balance.subtract(operation.amount()).stripTrailingZeros() : null;
+        }
+        yield covered ? null : balance;
+      }
+      case BALANCE -> balance.compareTo(operation.observed()) == 0 ? balance : null;
+    };
+  }
+
+  private static Entry link(List<Operation> operations) {
+    List<Entry> entries = new ArrayList<>(operations.size() * 2);
+    for (int id = 0; id < operations.size(); id++) {
+      Operation operation = operations.get(id);
+      Entry call = new Entry(id, operation, true, operation.invokedAt());
+      Entry ret = new Entry(id, operation, false, operation.returnedAt());
+      call.match = ret;
+      entries.add(call);
+      entries.add(ret);
+    }
+    // On equal timestamps calls go first, treating the operations as overlapping.
+    entries.sort(Comparator.comparingLong((Entry e) -> e.time).thenComparing(e -> !e.call));
+
+    Entry head = new Entry(-1, null, true, Long.MIN_VALUE);
+    Entry previous = head;
+    for (Entry entry : entries) {
+      previous.next = entry;
+      entry.prev = previous;
+      previous = entry;
+    }
+    return head;
+  }
+
+  private static final class Entry {
+    final int id;
+    final Operation operation;
+    final boolean call;
+    final long time;
+    Entry match;
+    Entry prev;
+    Entry next;
+
+    Entry(int id, Operation operation, boolean call, long time) {
+      this.id = id;
+      this.operation = operation;
+      this.call = call;
+      this.time = time;
+    }
+
+    // Unlinks this call and its return.
+    void lift() {
+      prev.next = next;
+      next.prev = prev;
+      match.prev.next = match.next;
+      if (match.next != null) {
+        match.next.prev = match.prev;
+      }
+    }
+
+    void unlift() {
+      match.prev.next = match;
+      if (match.next != null) {
+        match.next.prev = match;
+      }
+      prev.next = this;
+      next.prev = this;
+    }
+  }
+
+  private record Frame(Entry entry, BigDecimal state) {
+  }
+
+  private record Configuration(BitSet linearized, BigDecimal state) {
+  }
+}
@@ -0,0 +1,60 @@
+package com.my.coin.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.my.coin.concurrency.Operation.Kind.*;
+import static com.my.coin.concurrency.Operation.Outcome.OK;
+import static com.my.coin.concurrency.Operation.Outcome.REJECTED;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinearizabilityCheckerTest {
+
+  @DisplayName("Overlapping operations may take effect in either order")
+  @Test
+  void acceptsReorderingOfOverlappingOperations() {
+    List<Operation> history = List.of(
+            new Operation(WITHDRAW, BigDecimal.TEN, OK, null, 0, 10),
+            new Operation(DEPOSIT, BigDecimal.TEN, OK, null, 5, 15),
+            new Operation(BALANCE, null, OK, BigDecimal.ZERO, 20, 30));
+
+    assertTrue(LinearizabilityChecker.isLinearizable(history, BigDecimal.ZERO));
+  }
+
+  @DisplayName("Sequential operations must take effect in real-time order")
+  @Test
+  void rejectsReorderingOfSequentialOperations() {
+    List<Operation> history = List.of(
+            new Operation(WITHDRAW, BigDecimal.TEN, OK, null, 0, 10),
+            new Operation(DEPOSIT, BigDecimal.TEN, OK, null, 11, 15));
+
+    assertFalse(LinearizabilityChecker.isLinearizable(history, BigDecimal.ZERO));
+  }
+
+  @DisplayName("Two withdrawals accepted against a balance covering only one are not linearizable")
+  @Test
+  void rejectsDoubleSpend() {
+    List<Operation> history = List.of(
+            new Operation(WITHDRAW, BigDecimal.TEN, OK, null, 0, 10),
+            new Operation(WITHDRAW, BigDecimal.TEN, OK, null, 1, 11));
+
+    assertFalse(LinearizabilityChecker.isLinearizable(history, BigDecimal.TEN));
+  }
+
+  @DisplayName("A rejected withdrawal and a stale balance read are checked against the state at their linearization point")
+  @Test
+  void checksRejectionsAndReads() {
+    List<Operation> history = List.of(
+            new Operation(DEPOSIT, BigDecimal.ONE, OK, null, 0, 20),
+            new Operation(WITHDRAW, BigDecimal.ONE, REJECTED, null, 1, 2),
+            new Operation(BALANCE, null, OK, BigDecimal.ONE, 3, 4),
+            new Operation(BALANCE, null, OK, BigDecimal.ZERO, 5, 6));
+
+    assertFalse(LinearizabilityChecker.isLinearizable(history, BigDecimal.ZERO));
+    assertTrue(LinearizabilityChecker.isLinearizable(history.subList(0, 3), BigDecimal.ZERO));
+  }
+}
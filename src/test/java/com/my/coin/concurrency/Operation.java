@@ -0,0 +1,19 @@
+package com.my.coin.concurrency;
+
+import java.math.BigDecimal;
+
+/**
+ * One completed ledger call as seen by the client: what was asked, what came back and when.
+ * {@code observed} is the returned balance for {@link Kind#BALANCE}, otherwise null.
+ */
+record Operation(Kind kind, BigDecimal amount, Outcome outcome, BigDecimal observed,
+                 long invokedAt, long returnedAt) {
+
+  enum Kind {DEPOSIT, WITHDRAW, BALANCE}
+
+  enum Outcome {OK, REJECTED, FAILED}
+
+  long latencyNanos() {
+    return returnedAt - invokedAt;
+  }
+}
@@ -0,0 +1,18 @@
+package com.my.coin.concurrency;
+
+/**
+ * Weights are relative and amounts are whole units in {@code [1, maxAmount]}. Withdrawals outweigh
+ * deposits so the balance hovers near zero, where overdraft races show up.
+ */
+record StressConfig(int threads, int operationsPerThread, int depositWeight, int withdrawWeight,
+                    int balanceWeight, int maxAmount, long seed, boolean checkLinearizability) {
+
+  static StressConfig of(int threads, int operationsPerThread) {
+    return new StressConfig(threads, operationsPerThread, 3, 5, 2, 100, 42L, true);
+  }
+
+  StressConfig withoutLinearizability() {
+    return new StressConfig(threads, operationsPerThread, depositWeight, withdrawWeight, balanceWeight,
+            maxAmount, seed, false);
+  }
+}
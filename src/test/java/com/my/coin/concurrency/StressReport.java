@@ -0,0 +1,62 @@
+package com.my.coin.concurrency;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@code expectedBalance} is tracked from the operations the clients saw accepted, independently of the ledger.
+ */
+record StressReport(int operations, Duration elapsed, Map<Operation.Kind, Latencies> latencies,
+                    List<String> violations, Boolean linearizable, BigDecimal expectedBalance) {
+
+  boolean passed() {
+    return violations.isEmpty() && !Boolean.FALSE.equals(linearizable);
+  }
+
+  double throughput() {
+    return operations / Math.max(1e-9, elapsed.toNanos() / 1e9);
+  }
+
+  static Map<Operation.Kind, Latencies> latenciesOf(List<Operation> history) {
+    Map<Operation.Kind, Latencies> result = new EnumMap<>(Operation.Kind.class);
+    history.stream()
+            .collect(Collectors.groupingBy(Operation::kind,
+                    Collectors.mapping(Operation::latencyNanos, Collectors.toList())))
+            .forEach((kind, nanos) -> result.put(kind, Latencies.of(nanos)));
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder text = new StringBuilder(String.format("%s: %d ops in %d ms (%.0f ops/s), linearizable=%s%n",
+            passed() ? "PASS" : "FAIL", operations, elapsed.toMillis(), throughput(),
+            linearizable == null ? "unchecked" : linearizable));
+    latencies.forEach((kind, latency) -> text.append(String.format("  %-8s %s%n", kind, latency)));
+    violations.forEach(violation -> text.append("  violation: ").append(violation).append('\n'));
+    return text.toString();
+  }
+
+  record Latencies(int count, long p50, long p90, long p99, long max) {
+
+    static Latencies of(List<Long> nanos) {
+      long[] sorted = nanos.stream().mapToLong(Long::longValue).sorted().toArray();
+      return new Latencies(sorted.length, rank(sorted, 50), rank(sorted, 90), rank(sorted, 99),
+              sorted[sorted.length - 1]);
+    }
+
+    // Nearest-rank percentile.
+    private static long rank(long[] sorted, int percentile) {
+      return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1)];
+    }
+
+    @Override
+    public String toString() {
+      return String.format("count=%-6d p50=%7.1fus p90=%7.1fus p99=%7.1fus max=%8.1fus",
+              count, p50 / 1e3, p90 / 1e3, p99 / 1e3, max / 1e3);
+    }
+  }
+}
@@ -3,9 +3,11 @@ package com.my.coin.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.my.coin.controller.dto.AmountRequest;
 import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
 import com.my.coin.domain.TransactionType;
 import com.my.coin.exception.InsufficientBalanceException;
 import com.my.coin.service.LedgerService;
+import com.my.coin.service.LedgerVersion;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -14,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
@@ -25,7 +28,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.hasItem;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -44,12 +49,20 @@ class LedgerControllerTest {
   @Autowired
   private LedgerService ledgerService;
 
+  @Autowired
+  private LedgerVersion ledgerVersion;
+
   @TestConfiguration
   static class TestConfig {
     @Bean
     public LedgerService ledgerService() {
       return Mockito.mock(LedgerService.class);
     }
+
+    @Bean
+    public LedgerVersion ledgerVersion() {
+      return new LedgerVersion();
+    }
   }
 
   private <T> MockHttpServletRequestBuilder postFor(String path, T request) throws Exception {
@@ -158,4 +171,51 @@ class LedgerControllerTest {
             .andExpect(jsonPath("$[1].type").value("WITHDRAWAL"));
   }
 
+  @DisplayName("GET /balance answers 304 for a current ETag without reading the ledger")
+  @Test
+  void getBalanceHonoursIfNoneMatch() throws Exception {
+    Mockito.when(ledgerService.getBalance(Optional.empty())).thenReturn(BigDecimal.TEN);
+    String etag = mockMvc.perform(get("/api/ledger/balance"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    clearInvocations(ledgerService);
+
+    mockMvc.perform(get("/api/ledger/balance").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+    verify(ledgerService, never()).getBalance(Mockito.any());
+  }
+
+  @DisplayName("GET /balance tags differ per fromDate")
+  @Test
+  void getBalanceTagsDependOnFromDate() throws Exception {
+    Mockito.when(ledgerService.getBalance(Mockito.any())).thenReturn(BigDecimal.TEN);
+    String etag = mockMvc.perform(get("/api/ledger/balance"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/ledger/balance").param("fromDate", "2024-01-01")
+                    .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+  }
+
+  @DisplayName("GET /transactions returns the full history again once a transaction is recorded")
+  @Test
+  void getTransactionsTagChangesWithNewTransaction() throws Exception {
+    Transaction transaction = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN, LocalDateTime.now());
+    Mockito.when(ledgerService.getTransactions()).thenReturn(List.of(transaction));
+    String etag = mockMvc.perform(get("/api/ledger/transactions"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/api/ledger/transactions").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+    ledgerVersion.onRecorded(new TransactionRecorded(transaction));
+
+    mockMvc.perform(get("/api/ledger/transactions").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1));
+  }
+
 }
@@ -42,6 +42,17 @@ class GlobalExceptionHandlerTest {
     assertEquals("Insufficient funds", response.getBody());
   }
 
+  @Test
+  @DisplayName("Handles HistoryNotRetainedException with 400 and message")
+  void handlesHistoryNotRetainedException() {
+    HistoryNotRetainedException ex = new HistoryNotRetainedException("History before 2024-01-01 is not retained");
+
+    ResponseEntity<String> response = handler.handleHistoryNotRetained(ex);
+
+    assertEquals(BAD_REQUEST, response.getStatusCode());
+    assertEquals("History before 2024-01-01 is not retained", response.getBody());
+  }
+
   @Test
   @DisplayName("Handles MethodArgumentNotValidException and returns field errors")
   void handlesValidationErrors() throws NoSuchMethodException {
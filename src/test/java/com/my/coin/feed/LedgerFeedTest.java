@@ -0,0 +1,51 @@
+package com.my.coin.feed;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.service.LedgerHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LedgerFeedTest {
+
+  private LedgerFeed feed;
+
+  @BeforeEach
+  void setUp() {
+    LedgerHistory history = mock(LedgerHistory.class);
+    when(history.storedBalance()).thenReturn(BigDecimal.ZERO);
+    feed = new LedgerFeed(history, new FeedProperties(4, Duration.ofSeconds(15)));
+    for (int i = 0; i < 6; i++) {
+      feed.onRecorded(new TransactionRecorded(Transaction.transactionFor(TransactionType.DEPOSIT, BigDecimal.ONE)));
+    }
+  }
+
+  @DisplayName("A known event id resumes right after it, no id starts from now")
+  @Test
+  void resumesAfterKnownId() {
+    assertEquals(new LedgerFeed.Start(4, false), feed.startAfter(Optional.of(feed.eventId(3))));
+    assertEquals(new LedgerFeed.Start(6, false), feed.startAfter(Optional.of(feed.eventId(5))));
+    assertEquals(new LedgerFeed.Start(6, false), feed.startAfter(Optional.empty()));
+  }
+
+  @DisplayName("An id ahead of the buffer, from another process or malformed resets to the oldest buffered event")
+  @Test
+  void resetsOnUnknownId() {
+    LedgerFeed.Start reset = new LedgerFeed.Start(2, true);
+
+    assertEquals(reset, feed.startAfter(Optional.of(feed.eventId(6))));
+    assertEquals(reset, feed.startAfter(Optional.of("0-3")));
+    assertEquals(reset, feed.startAfter(Optional.of("42")));
+    assertEquals(reset, feed.startAfter(Optional.of(feed.eventId(0).replace("-0", "-x"))));
+  }
+}
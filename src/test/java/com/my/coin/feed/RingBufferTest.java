@@ -0,0 +1,41 @@
+package com.my.coin.feed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferTest {
+
+  @DisplayName("Published entries are readable by sequence until overwritten")
+  @Test
+  void readsBySequenceUntilOverwritten() {
+    RingBuffer<String> buffer = new RingBuffer<>(4);
+    for (int i = 0; i < 6; i++) {
+      buffer.publish(sequence -> "event-" + sequence);
+    }
+
+    assertEquals(6, buffer.nextSequence());
+    assertNull(buffer.read(1));
+    assertTrue(buffer.isOverwritten(1));
+    assertEquals("event-2", buffer.read(2));
+    assertEquals("event-5", buffer.read(5));
+    assertFalse(buffer.isOverwritten(2));
+  }
+
+  @DisplayName("Sequences not published yet are neither readable nor overwritten")
+  @Test
+  void futureSequencesAreNotAvailable() {
+    RingBuffer<String> buffer = new RingBuffer<>(4);
+    buffer.publish(sequence -> "first");
+
+    assertNull(buffer.read(1));
+    assertFalse(buffer.isOverwritten(1));
+  }
+
+  @DisplayName("Capacity must be a power of two")
+  @Test
+  void rejectsCapacityNotPowerOfTwo() {
+    assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(3));
+  }
+}
@@ -0,0 +1,140 @@
+package com.my.coin.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.exception.ImportException;
+import com.my.coin.service.DefaultLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LedgerImporterTest {
+
+  private static final String FIRST = "00000000-0000-0000-0000-000000000001";
+  private static final String SECOND = "00000000-0000-0000-0000-000000000002";
+  private static final String THIRD = "00000000-0000-0000-0000-000000000003";
+
+  @TempDir
+  Path directory;
+
+  private DefaultLedgerService ledger;
+  private LedgerImporter importer;
+
+  @BeforeEach
+  void setUp() {
+    ledger = new DefaultLedgerService();
+    importer = new LedgerImporter(ledger, new ObjectMapper().findAndRegisterModules(), new ImportProperties(2));
+  }
+
+  @DisplayName("CSV rows are imported in batches after the header")
+  @Test
+  void importsCsvInBatches() throws Exception {
+    Path file = write("ledger.csv",
+            "id,type,amount,timestamp",
+            FIRST + ",DEPOSIT,100.00,2024-01-01T10:00:00",
+            SECOND + ",WITHDRAWAL,30.50,2024-01-02T10:00:00",
+            "",
+            THIRD + ",DEPOSIT,5,2024-01-03T10:00:00");
+
+    ImportReport report = importer.importFile(file);
+
+    assertEquals(3, report.rows());
+    assertEquals(2, report.batches());
+    assertEquals(0, new BigDecimal("74.50").compareTo(ledger.getBalance(Optional.empty())));
+    assertFalse(Files.exists(checkpointOf(file)));
+  }
+
+  @DisplayName("NDJSON rows are imported")
+  @Test
+  void importsNdjson() {
+    String body = """
+            {"id":"%s","type":"DEPOSIT","amount":10,"timestamp":"2024-01-01T10:00:00"}
+            {"id":"%s","type":"WITHDRAWAL","amount":4,"timestamp":"2024-01-02T10:00:00"}
+            """.formatted(FIRST, SECOND);
+
+    ImportReport report = importer.importStream(new StringReader(body), ImportFormat.NDJSON, 0);
+
+    assertEquals(2, report.rows());
+    assertEquals(0, BigDecimal.valueOf(6).compareTo(ledger.getBalance(Optional.empty())));
+  }
+
+  @DisplayName("An invalid row stops the import after the committed batches and a rerun resumes from there")
+  @Test
+  void resumesFromCheckpointAfterFailure() throws Exception {
+    Path file = write("ledger.csv",
+            FIRST + ",DEPOSIT,1,2024-01-01T10:00:00",
+            SECOND + ",DEPOSIT,2,2024-01-02T10:00:00",
+            THIRD + ",DEPOSIT,-3,2024-01-03T10:00:00");
+
+    ImportException failure = assertThrows(ImportException.class, () -> importer.importFile(file));
+    assertEquals(2, failure.getCommittedLines());
+    assertTrue(failure.getMessage().startsWith("Line 3: amount must be >= 0.01"), failure.getMessage());
+    assertEquals("2", Files.readString(checkpointOf(file)));
+
+    write("ledger.csv",
+            FIRST + ",DEPOSIT,1,2024-01-01T10:00:00",
+            SECOND + ",DEPOSIT,2,2024-01-02T10:00:00",
+            THIRD + ",DEPOSIT,3,2024-01-03T10:00:00");
+    ImportReport report = importer.importFile(file);
+
+    assertEquals(1, report.rows());
+    assertEquals(2, report.resumedFromLine());
+    assertEquals(List.of(THIRD, SECOND, FIRST),
+            ledger.getTransactions().stream().map(Transaction::id).map(Object::toString).toList());
+  }
+
+  @DisplayName("A batch recorded before the checkpoint was written is not recorded again on resume")
+  @Test
+  void skipsReplayedBatch() throws Exception {
+    Path file = write("ledger.csv",
+            FIRST + ",DEPOSIT,1,2024-01-01T10:00:00",
+            SECOND + ",DEPOSIT,2,2024-01-02T10:00:00",
+            THIRD + ",DEPOSIT,3,2024-01-03T10:00:00");
+    // The first batch committed, then the process died before writing its checkpoint.
+    ledger.recordAll(List.of(
+            new Transaction(UUID.fromString(FIRST), TransactionType.DEPOSIT, BigDecimal.ONE,
+                    LocalDateTime.parse("2024-01-01T10:00:00")),
+            new Transaction(UUID.fromString(SECOND), TransactionType.DEPOSIT, BigDecimal.TWO,
+                    LocalDateTime.parse("2024-01-02T10:00:00"))));
+
+    ImportReport report = importer.importFile(file);
+
+    assertEquals(1, report.rows());
+    assertEquals(3, ledger.getTransactions().size());
+    assertEquals(0, BigDecimal.valueOf(6).compareTo(ledger.getBalance(Optional.empty())));
+    assertFalse(Files.exists(checkpointOf(file)));
+  }
+
+  @DisplayName("Malformed fields are reported with the line number")
+  @Test
+  void rejectsMalformedFields() {
+    String body = FIRST + ",REFUND,1,2024-01-01T10:00:00\n";
+
+    ImportException failure = assertThrows(ImportException.class,
+            () -> importer.importStream(new StringReader(body), ImportFormat.CSV, 0));
+
+    assertTrue(failure.getMessage().startsWith("Line 1: invalid type 'REFUND'"), failure.getMessage());
+    assertEquals(0, ledger.getTransactions().size());
+  }
+
+  private Path write(String name, String... lines) throws Exception {
+    return Files.write(directory.resolve(name), List.of(lines));
+  }
+
+  private static Path checkpointOf(Path file) {
+    return file.resolveSibling(file.getFileName() + LedgerImporter.CHECKPOINT_SUFFIX);
+  }
+}
@@ -13,8 +13,16 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.*;
 
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,4 +119,81 @@ class LedgerIntegrationTest {
     List<String> messages = getFieldMessages(body, "amount");
     assertTrue(messages.contains("Amount is required"));
   }
+
+  @Test
+  @DisplayName("Audit reconciles the stored balance against the history")
+  void auditIsConsistent() {
+    restTemplate.postForEntity(baseUrl("/deposit"), new HttpEntity<>(new AmountRequest(BigDecimal.TEN)), Void.class);
+
+    ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            baseUrl("/audit"), HttpMethod.GET, null, new ParameterizedTypeReference<>() {
+            });
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    Map<String, Object> body = response.getBody();
+    assertNotNull(body);
+    assertEquals(true, body.get("consistent"));
+  }
+
+  @Test
+  @DisplayName("Balance ETag is honoured until a deposit commits")
+  void balanceETagChangesAfterDeposit() {
+    ResponseEntity<BalanceResponse> first = restTemplate.getForEntity(baseUrl("/balance"), BalanceResponse.class);
+    String etag = first.getHeaders().getETag();
+    assertNotNull(etag);
+
+    HttpHeaders conditional = new HttpHeaders();
+    conditional.setIfNoneMatch(etag);
+    ResponseEntity<BalanceResponse> unchanged = restTemplate.exchange(
+            baseUrl("/balance"), HttpMethod.GET, new HttpEntity<>(conditional), BalanceResponse.class);
+    assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+
+    restTemplate.postForEntity(baseUrl("/deposit"), new HttpEntity<>(new AmountRequest(BigDecimal.ONE)), Void.class);
+
+    ResponseEntity<BalanceResponse> changed = restTemplate.exchange(
+            baseUrl("/balance"), HttpMethod.GET, new HttpEntity<>(conditional), BalanceResponse.class);
+    assertEquals(HttpStatus.OK, changed.getStatusCode());
+    assertNotEquals(etag, changed.getHeaders().getETag());
+  }
+
+  @Test
+  @DisplayName("Uploaded CSV is imported into the ledger")
+  void importUploadedCsv() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.parseMediaType("text/csv"));
+    String csv = """
+            id,type,amount,timestamp
+            %s,DEPOSIT,12.00,2020-01-01T09:00:00
+            %s,WITHDRAWAL,12.00,2020-01-02T09:00:00
+            """.formatted(UUID.randomUUID(), UUID.randomUUID());
+
+    ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+            baseUrl("/import"), HttpMethod.POST, new HttpEntity<>(csv, headers), new ParameterizedTypeReference<>() {
+            });
+
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(2, response.getBody().get("rows"));
+  }
+
+  @Test
+  @DisplayName("Stream subscribers receive committed transactions with the resulting balance")
+  void streamPushesCommittedTransactions() throws Exception {
+    HttpClient client = HttpClient.newHttpClient();
+    HttpRequest subscribe = HttpRequest.newBuilder(URI.create(baseUrl("/stream")))
+            .header("Accept", "text/event-stream")
+            .build();
+    HttpResponse<Stream<String>> stream = client.send(subscribe, HttpResponse.BodyHandlers.ofLines());
+    CompletableFuture<String> firstUpdate = CompletableFuture.supplyAsync(() -> stream.body()
+            .filter(line -> line.startsWith("data:"))
+            .findFirst()
+            .orElseThrow());
+
+    restTemplate.postForEntity(baseUrl("/deposit"), new HttpEntity<>(new AmountRequest(BigDecimal.valueOf(7))), Void.class);
+
+    String data = firstUpdate.get(10, TimeUnit.SECONDS);
+    assertTrue(data.contains("\"amount\":7"), data);
+    assertTrue(data.contains("\"balance\""), data);
+    stream.body().close();
+  }
 }
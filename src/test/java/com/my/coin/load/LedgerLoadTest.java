@@ -0,0 +1,78 @@
+package com.my.coin.load;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.service.LedgerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs only with {@code mvn -Pload-test test}. Seeds {@code load.history} transactions, drives the API at
+ * {@code load.rate} requests per second and fails when the SLOs in {@link LoadProfile} are missed.
+ * Distributions are written to {@code target/load}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loaddb;DB_CLOSE_DELAY=-1",
+        "ledger.rate-limit.enabled=false"})
+class LedgerLoadTest {
+
+  private static final Logger log = LoggerFactory.getLogger(LedgerLoadTest.class);
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private LedgerService ledger;
+
+  @Test
+  @DisplayName("Open-model traffic across the ledger API meets the latency and throughput SLOs")
+  void meetsSlos() throws Exception {
+    LoadProfile profile = LoadProfile.fromSystemProperties();
+    seed(profile.historySize());
+
+    LoadResult result = new OpenModelLoadGenerator(profile).run(URI.create("http://localhost:" + port));
+    log.info("Load test result:\n{}", result.report());
+    result.writeDistributions(Path.of("target", "load"));
+
+    assertAll(result.report(),
+            () -> assertTrue(result.percentile(99).compareTo(profile.p99()) <= 0,
+                    "p99 " + result.percentile(99).toMillis() + " ms exceeds " + profile.p99().toMillis() + " ms"),
+            () -> assertTrue(result.percentile(99.9).compareTo(profile.p999()) <= 0,
+                    "p99.9 " + result.percentile(99.9).toMillis() + " ms exceeds " + profile.p999().toMillis() + " ms"),
+            () -> assertTrue(result.throughput() >= profile.rate() * profile.minThroughputRatio(),
+                    "throughput " + result.throughput() + "/s below " + profile.minThroughputRatio() + " of target"),
+            () -> assertTrue(result.errorRate() <= profile.maxErrorRate(),
+                    "error rate " + result.errorRate() + " above " + profile.maxErrorRate()));
+  }
+
+  private void seed(int size) {
+    LocalDateTime start = LocalDateTime.now().minusDays(size);
+    List<Transaction> batch = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      batch.add(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.valueOf(1 + i % 100),
+              start.plusDays(i)));
+      if (batch.size() == 1_000 || i == size - 1) {
+        ledger.recordAll(batch);
+        batch = new ArrayList<>();
+      }
+    }
+  }
+}
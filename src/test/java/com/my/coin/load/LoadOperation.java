@@ -0,0 +1,33 @@
+package com.my.coin.load;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Random;
+
+enum LoadOperation {
+  DEPOSIT,
+  WITHDRAW,
+  BALANCE,
+  TRANSACTIONS;
+
+  HttpRequest request(URI base, Random random) {
+    return switch (this) {
+      case DEPOSIT -> post(base.resolve("/api/ledger/deposit"), 1 + random.nextInt(100));
+      case WITHDRAW -> post(base.resolve("/api/ledger/withdraw"), 1 + random.nextInt(50));
+      case BALANCE -> HttpRequest.newBuilder(base.resolve("/api/ledger/balance")).GET().build();
+      case TRANSACTIONS -> HttpRequest.newBuilder(base.resolve("/api/ledger/transactions")).GET().build();
+    };
+  }
+
+  // A withdrawal bounced for insufficient balance is a valid answer, not an error.
+  boolean succeeded(int status) {
+    return status == 200 || (this == WITHDRAW && status == 400);
+  }
+
+  private static HttpRequest post(URI uri, int amount) {
+    return HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"amount\":" + amount + "}"))
+            .build();
+  }
+}
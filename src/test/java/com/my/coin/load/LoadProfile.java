@@ -0,0 +1,45 @@
+package com.my.coin.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Traffic shape and SLOs for {@link LedgerLoadTest}, read from {@code load.*} system properties so a run
+ * can be tuned from the Maven command line.
+ */
+record LoadProfile(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<LoadOperation, Integer> mix,
+        int historySize,
+        Duration p99,
+        Duration p999,
+        double minThroughputRatio,
+        double maxErrorRate) {
+
+  static LoadProfile fromSystemProperties() {
+    return new LoadProfile(
+            Integer.getInteger("load.rate", 50),
+            Duration.parse(System.getProperty("load.warmup", "PT5S")),
+            Duration.parse(System.getProperty("load.duration", "PT20S")),
+            parseMix(System.getProperty("load.mix", "deposit=30,withdraw=10,balance=40,transactions=20")),
+            Integer.getInteger("load.history", 1_000),
+            Duration.ofMillis(Long.getLong("load.slo.p99", 250)),
+            Duration.ofMillis(Long.getLong("load.slo.p999", 1_000)),
+            Double.parseDouble(System.getProperty("load.slo.throughput", "0.95")),
+            Double.parseDouble(System.getProperty("load.slo.errors", "0.001")));
+  }
+
+  // "deposit=30,withdraw=10,...": relative weights per operation.
+  static Map<LoadOperation, Integer> parseMix(String mix) {
+    Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+    for (String entry : mix.split(",")) {
+      String[] parts = entry.split("=");
+      weights.put(LoadOperation.valueOf(parts[0].strip().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].strip()));
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,63 @@
+package com.my.coin.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Latencies are recorded in microseconds.
+ */
+record LoadResult(int targetRate, long requests, Duration elapsed, Map<LoadOperation, Histogram> latencies,
+                  long errors) {
+
+  Histogram overall() {
+    Histogram overall = new Histogram(3);
+    latencies.values().forEach(overall::add);
+    return overall;
+  }
+
+  // Completed requests over the time until the last one completed.
+  double throughput() {
+    return requests / (elapsed.toNanos() / 1e9);
+  }
+
+  double errorRate() {
+    return requests == 0 ? 0 : (double) errors / requests;
+  }
+
+  Duration percentile(double percentile) {
+    return Duration.ofNanos(overall().getValueAtPercentile(percentile) * 1_000);
+  }
+
+  String report() {
+    StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+            "%d requests at %d/s target: %.1f/s achieved, %d errors%n", requests, targetRate, throughput(), errors));
+    latencies.forEach((operation, histogram) -> text.append(line(operation.name(), histogram)));
+    text.append(line("ALL", overall()));
+    return text.toString();
+  }
+
+  // Full percentile distributions (in ms) per operation, for plotting with HdrHistogram's tooling.
+  void writeDistributions(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    for (Map.Entry<LoadOperation, Histogram> entry : latencies.entrySet()) {
+      Path file = directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+      try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+        entry.getValue().outputPercentileDistribution(out, 1_000.0);
+      }
+    }
+  }
+
+  private static String line(String name, Histogram histogram) {
+    return String.format(Locale.ROOT, "  %-12s count=%-7d p50=%8.2fms p99=%8.2fms p99.9=%8.2fms max=%8.2fms%n",
+            name, histogram.getTotalCount(),
+            histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+            histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMaxValue() / 1e3);
+  }
+}
@@ -0,0 +1,89 @@
+package com.my.coin.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed arrival rate whatever the response times, each on its own virtual thread.
+ * Latency is measured from when a request was due rather than when it was sent, so a stalled server shows
+ * up in the percentiles instead of silently lowering the offered load.
+ */
+final class OpenModelLoadGenerator {
+
+  private final LoadProfile profile;
+  private final HttpClient client = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .connectTimeout(Duration.ofSeconds(5))
+          .build();
+
+  OpenModelLoadGenerator(LoadProfile profile) {
+    this.profile = profile;
+  }
+
+  LoadResult run(URI base) {
+    phase(base, profile.warmup(), 1L);
+    return phase(base, profile.duration(), 2L);
+  }
+
+  private LoadResult phase(URI base, Duration duration, long seed) {
+    Map<LoadOperation, Histogram> latencies = new EnumMap<>(LoadOperation.class);
+    profile.mix().keySet().forEach(operation -> latencies.put(operation, new ConcurrentHistogram(3)));
+    AtomicLong errors = new AtomicLong();
+    Random random = new Random(seed);
+    int totalWeight = profile.mix().values().stream().mapToInt(Integer::intValue).sum();
+
+    long interval = 1_000_000_000L / profile.rate();
+    long requests = duration.toNanos() / interval;
+    long start = System.nanoTime();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; i < requests; i++) {
+        long due = start + i * interval;
+        long wait = due - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        LoadOperation operation = pick(random, totalWeight);
+        HttpRequest request = operation.request(base, random);
+        executor.submit(() -> {
+          boolean succeeded;
+          try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            succeeded = operation.succeeded(response.statusCode());
+          } catch (Exception e) {
+            succeeded = false;
+          }
+          latencies.get(operation).recordValue(Math.max(0, (System.nanoTime() - due) / 1_000));
+          if (!succeeded) {
+            errors.incrementAndGet();
+          }
+        });
+      }
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+    return new LoadResult(profile.rate(), requests, elapsed, latencies, errors.get());
+  }
+
+  private LoadOperation pick(Random random, int totalWeight) {
+    int pick = random.nextInt(totalWeight);
+    for (Map.Entry<LoadOperation, Integer> weight : profile.mix().entrySet()) {
+      pick -= weight.getValue();
+      if (pick < 0) {
+        return weight.getKey();
+      }
+    }
+    throw new IllegalStateException("Empty load mix");
+  }
+}
@@ -0,0 +1,61 @@
+package com.my.coin.monitoring;
+
+import com.my.coin.monitoring.LedgerRecordingSummary.StageSummary;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LedgerRecordingSummaryTest {
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("Ledger events are grouped by stage and request operation")
+  @Test
+  void summarisesStagesAndOperations() throws Exception {
+    Path file = directory.resolve("ledger.jfr");
+    try (Recording recording = new Recording()) {
+      recording.enable(LedgerRequestEvent.class).withoutThreshold();
+      recording.enable(PersistEvent.class).withoutThreshold();
+      recording.start();
+
+      for (int i = 0; i < 3; i++) {
+        request("deposit");
+      }
+      request("getBalance");
+      PersistEvent persist = new PersistEvent();
+      persist.begin();
+      persist.rows = 1;
+      persist.commit();
+
+      recording.stop();
+      recording.dump(file);
+    }
+
+    List<StageSummary> summaries = LedgerRecordingSummary.summarise(file);
+
+    assertEquals(List.of("Persist", "Request deposit", "Request getBalance"),
+            summaries.stream().map(StageSummary::stage).toList());
+    assertEquals(List.of(1, 3, 1), summaries.stream().map(StageSummary::count).toList());
+    summaries.forEach(summary -> {
+      assertTrue(summary.p50().compareTo(summary.p99()) <= 0);
+      assertTrue(summary.p99().compareTo(summary.max()) <= 0);
+    });
+  }
+
+  private static void request(String operation) {
+    LedgerRequestEvent event = new LedgerRequestEvent();
+    event.begin();
+    event.operation = operation;
+    event.status = 200;
+    event.outcome = "OK";
+    event.commit();
+  }
+}
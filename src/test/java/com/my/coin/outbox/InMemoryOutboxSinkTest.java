@@ -0,0 +1,39 @@
+package com.my.coin.outbox;
+
+import com.my.coin.domain.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InMemoryOutboxSinkTest {
+
+  @DisplayName("A full sink refuses a batch it cannot hold and keeps what it already has")
+  @Test
+  void refusesBatchWhenFull() {
+    InMemoryOutboxSink sink = new InMemoryOutboxSink(3);
+
+    sink.deliver(messages(1, 2));
+    assertThrows(IllegalStateException.class, () -> sink.deliver(messages(3, 4)));
+
+    List<OutboxMessage> delivered = new ArrayList<>();
+    sink.drainTo(delivered);
+    assertEquals(List.of(1L, 2L), delivered.stream().map(OutboxMessage::id).toList());
+    sink.deliver(messages(3, 4));
+  }
+
+  private static List<OutboxMessage> messages(long from, long to) {
+    return LongStream.rangeClosed(from, to)
+            .mapToObj(id -> new OutboxMessage(id, UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.ONE,
+                    LocalDateTime.now()))
+            .toList();
+  }
+}
@@ -0,0 +1,84 @@
+package com.my.coin.outbox;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.persistence.repository.OutboxRepository;
+import com.my.coin.service.LedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// The scheduled relay is pushed out of the way so each test drives relay() itself.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxdb;DB_CLOSE_DELAY=-1",
+        "ledger.outbox.enabled=true",
+        "ledger.outbox.sink=memory",
+        "ledger.outbox.batch-size=2",
+        "ledger.outbox.poll-interval=PT1H"})
+class OutboxRelayTest {
+
+  @Autowired
+  private LedgerService ledger;
+
+  @Autowired
+  private OutboxRepository repository;
+
+  @Autowired
+  private OutboxRelay relay;
+
+  @Autowired
+  private InMemoryOutboxSink sink;
+
+  @Autowired
+  private OutboxProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    relay.relay();
+    sink.drainTo(new ArrayList<>());
+  }
+
+  @DisplayName("Committed transactions are written to the outbox and relayed in order, rejected ones are not")
+  @Test
+  void relaysCommittedTransactions() {
+    ledger.deposit(new BigDecimal("10.00"));
+    ledger.recordAll(List.of(
+            Transaction.transactionFor(TransactionType.DEPOSIT, new BigDecimal("1.00")),
+            Transaction.transactionFor(TransactionType.DEPOSIT, new BigDecimal("2.00"))));
+    ledger.withdraw(new BigDecimal("3.00"));
+    assertThrows(InsufficientBalanceException.class, () -> ledger.withdraw(new BigDecimal("1000.00")));
+    assertEquals(4, repository.count());
+
+    assertEquals(4, relay.relay());
+
+    List<OutboxMessage> delivered = new ArrayList<>();
+    sink.drainTo(delivered);
+    assertEquals(List.of("10.00", "1.00", "2.00", "3.00"),
+            delivered.stream().map(message -> message.amount().toPlainString()).toList());
+    assertEquals(TransactionType.WITHDRAWAL, delivered.getLast().type());
+    assertEquals(0, repository.count());
+  }
+
+  @DisplayName("A batch the sink refuses stays in the outbox")
+  @Test
+  void failedDeliveryKeepsMessages() {
+    ledger.deposit(new BigDecimal("5.00"));
+    OutboxRelay failing = new OutboxRelay(repository, messages -> {
+      throw new IllegalStateException("broker down");
+    }, properties);
+
+    assertThrows(IllegalStateException.class, failing::relay);
+    assertEquals(1, repository.count());
+    assertEquals(1, relay.relay());
+  }
+}
@@ -0,0 +1,45 @@
+package com.my.coin.persistence.replica;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.my.coin.persistence.replica.ReplicaRoutingDataSource.Route.PRIMARY;
+import static com.my.coin.persistence.replica.ReplicaRoutingDataSource.Route.REPLICA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class ReplicaRoutingDataSourceTest {
+
+  private final AtomicBoolean caughtUp = new AtomicBoolean(true);
+  private final AtomicBoolean withinLag = new AtomicBoolean(true);
+  private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+          mock(DataSource.class), mock(DataSource.class), caughtUp::get, withinLag::get);
+
+  @DisplayName("Reads go to a caught-up replica")
+  @Test
+  void caughtUpReplicaServesReads() {
+    assertEquals(REPLICA, routing.determineCurrentLookupKey());
+    assertEquals(REPLICA, ReadConsistency.requireCurrent(routing::determineCurrentLookupKey));
+  }
+
+  @DisplayName("A replica within the lag bound serves plain reads but not ones that must be current")
+  @Test
+  void laggingReplicaOnlyServesPlainReads() {
+    caughtUp.set(false);
+
+    assertEquals(REPLICA, routing.determineCurrentLookupKey());
+    assertEquals(PRIMARY, ReadConsistency.requireCurrent(routing::determineCurrentLookupKey));
+  }
+
+  @DisplayName("Reads fall back to the primary once the replica lags beyond the bound")
+  @Test
+  void staleReplicaFallsBackToPrimary() {
+    caughtUp.set(false);
+    withinLag.set(false);
+
+    assertEquals(PRIMARY, routing.determineCurrentLookupKey());
+  }
+}
@@ -0,0 +1,127 @@
+package com.my.coin.persistence.replica;
+
+import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.persistence.repository.OutboxRepository;
+import com.my.coin.service.LedgerService;
+import com.my.coin.service.LedgerVersion;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingdb;DB_CLOSE_DELAY=-1",
+        "ledger.replica.enabled=true",
+        "ledger.replica.url=jdbc:h2:mem:routingreplica;DB_CLOSE_DELAY=-1",
+        "ledger.outbox.enabled=true",
+        "ledger.outbox.sink=memory",
+        "ledger.outbox.poll-interval=PT1H"})
+class ReplicaRoutingTest {
+
+  @Autowired
+  private LedgerService ledger;
+
+  @Autowired
+  private ReplicaSynchronizer synchronizer;
+
+  @Autowired
+  private OutboxRepository outbox;
+
+  @Autowired
+  private LedgerVersion version;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Autowired
+  @Qualifier("replicaDataSource")
+  private DataSource replicaDataSource;
+
+  @DisplayName("Committed writes reach the replica, reads are served from it and balance checks stay on the primary")
+  @Test
+  void routesReadsToReplica() throws InterruptedException {
+    ledger.deposit(new BigDecimal("10.00"));
+    awaitFresh();
+
+    JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+    assertEquals(1, replica.queryForObject("SELECT count(*) FROM transactions", Integer.class));
+
+    // A row only the replica has shows which database answered.
+    replica.update("INSERT INTO transactions (id, type, amount, timestamp) VALUES (?, 'DEPOSIT', 500, ?)",
+            UUID.randomUUID(), LocalDateTime.now());
+    try {
+      assertEquals(0, new BigDecimal("510.00").compareTo(ledger.getBalance(Optional.empty())));
+      assertEquals(2, ledger.getTransactions().size());
+      assertThrows(InsufficientBalanceException.class, () -> ledger.withdraw(new BigDecimal("100.00")));
+    } finally {
+      replica.update("DELETE FROM transactions WHERE amount = 500");
+    }
+  }
+
+  @DisplayName("The outbox is never read from the replica, which does not carry it")
+  @Test
+  void keepsOutboxOnPrimary() throws InterruptedException {
+    long before = outbox.count();
+    ledger.deposit(new BigDecimal("1.00"));
+    awaitFresh();
+
+    assertEquals(before + 1, outbox.count());
+    assertEquals(before + 1, outbox.findOldest(Limit.unlimited()).size());
+  }
+
+  @DisplayName("A write counts as pending before any after-commit listener, the version bump included, runs")
+  @Test
+  void countsWritesPendingBeforeTheVersionMoves() throws InterruptedException {
+    awaitFresh();
+    String before = version.tag("balance");
+    AtomicBoolean caughtUpAtCommit = new AtomicBoolean(true);
+
+    new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+      ledger.deposit(new BigDecimal("1.00"));
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public int getOrder() {
+          return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+          caughtUpAtCommit.set(synchronizer.isCaughtUp());
+        }
+      });
+    });
+
+    assertFalse(caughtUpAtCommit.get());
+    assertNotEquals(before, version.tag("balance"));
+    awaitFresh();
+  }
+
+  private void awaitFresh() throws InterruptedException {
+    long deadline = System.nanoTime() + 5_000_000_000L;
+    while (!synchronizer.isFresh()) {
+      assertTrue(System.nanoTime() < deadline, "replica did not catch up");
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.my.coin.persistence.replica;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionRecorded;
+import com.my.coin.domain.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaSynchronizerTest {
+
+  private static final String REPLICA_URL = "jdbc:h2:mem:syncreplica;DB_CLOSE_DELAY=-1";
+
+  private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:syncprimary;DB_CLOSE_DELAY=-1", "sa", "");
+  private final DataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+  private final TransactionTemplate transactions = new TransactionTemplate(new DataSourceTransactionManager(primary));
+  private ReplicaSynchronizer synchronizer;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    new JdbcTemplate(primary).execute("""
+            CREATE TABLE IF NOT EXISTS transactions (
+              id UUID PRIMARY KEY, type VARCHAR(16), amount NUMERIC(19, 2), timestamp TIMESTAMP)""");
+    synchronizer = new ReplicaSynchronizer(primary, replica,
+            new ReplicaProperties(true, REPLICA_URL, "sa", "", 1, Duration.ZERO, 10));
+    synchronizer.afterSingletonsInstantiated();
+    await(synchronizer::isCaughtUp, "replica did not start");
+  }
+
+  @AfterEach
+  void tearDown() {
+    synchronizer.shutdown();
+  }
+
+  @DisplayName("Once replication fails, later commits are no longer queued for a replica nobody applies to")
+  @Test
+  void stopsQueueingOnceReplicationFails() throws InterruptedException {
+    new JdbcTemplate(replica).execute("DROP TABLE transactions");
+    commit();
+    await(() -> !synchronizer.isFresh() && synchronizer.queued() == 0, "replication did not stop");
+
+    for (int i = 0; i < 1_000; i++) {
+      commit();
+    }
+
+    assertEquals(0, synchronizer.queued());
+    assertFalse(synchronizer.isCaughtUp());
+  }
+
+  @DisplayName("A rolled back write stops counting as pending")
+  @Test
+  void rolledBackWriteIsNotPending() {
+    transactions.executeWithoutResult(status -> {
+      synchronizer.onRecorded(recorded());
+      status.setRollbackOnly();
+    });
+
+    assertEquals(0, synchronizer.pending());
+    assertTrue(synchronizer.isCaughtUp());
+  }
+
+  private void commit() {
+    transactions.executeWithoutResult(status -> synchronizer.onRecorded(recorded()));
+  }
+
+  private static TransactionRecorded recorded() {
+    return new TransactionRecorded(Transaction.transactionFor(TransactionType.DEPOSIT, BigDecimal.ONE));
+  }
+
+  private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+    long deadline = System.nanoTime() + 5_000_000_000L;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.nanoTime() < deadline, message);
+      Thread.sleep(10);
+    }
+  }
+}
@@ -0,0 +1,107 @@
+package com.my.coin.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+
+  private final AtomicLong clock = new AtomicLong();
+  private final RateLimitProperties properties = new RateLimitProperties(true, 2, 1, 3, "X-API-Key",
+          Set.of("a", "b"));
+  private final ClientRateLimiter limiter = new ClientRateLimiter(properties, clock::get);
+  private final RateLimitFilter filter = new RateLimitFilter(properties, limiter);
+
+  private MockHttpServletResponse deposit(String apiKey) throws Exception {
+    return deposit(apiKey, "127.0.0.1");
+  }
+
+  private MockHttpServletResponse deposit(String apiKey, String address) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/ledger/deposit");
+    request.setRemoteAddr(address);
+    if (apiKey != null) {
+      request.addHeader("X-API-Key", apiKey);
+    }
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    filter.doFilter(request, response, new MockFilterChain());
+    return response;
+  }
+
+  @DisplayName("Requests beyond the burst get 429 with a Retry-After hint")
+  @Test
+  void rejectsWithRetryAfter() throws Exception {
+    assertEquals(200, deposit("a").getStatus());
+    assertEquals(200, deposit("a").getStatus());
+
+    MockHttpServletResponse rejected = deposit("a");
+
+    assertEquals(429, rejected.getStatus());
+    assertEquals("1", rejected.getHeader("Retry-After"));
+  }
+
+  @DisplayName("Each client has its own bucket")
+  @Test
+  void limitsClientsIndependently() throws Exception {
+    deposit("a");
+    deposit("a");
+
+    assertEquals(429, deposit("a").getStatus());
+    assertEquals(200, deposit("b").getStatus());
+    assertEquals(200, deposit(null).getStatus());
+  }
+
+  @DisplayName("The client table stays bounded")
+  @Test
+  void evictsClientsBeyondBound() throws Exception {
+    for (int i = 0; i < 20; i++) {
+      deposit(null, "10.0.0." + i);
+    }
+
+    assertTrue(limiter.trackedClients() <= properties.maxClients());
+  }
+
+  @DisplayName("Unknown API keys are limited by the caller's address")
+  @Test
+  void unknownKeysShareTheAddressBucket() throws Exception {
+    deposit("random-1");
+    deposit("random-2");
+
+    assertEquals(429, deposit("random-3").getStatus());
+    assertEquals(429, deposit(null).getStatus());
+    assertEquals(200, deposit("a").getStatus());
+  }
+
+  @DisplayName("Eviction drops the least recently used clients, not active ones")
+  @Test
+  void evictsLeastRecentlyUsed() throws Exception {
+    deposit(null, "10.0.0.1");
+    clock.addAndGet(10);
+    deposit(null, "10.0.0.2");
+    clock.addAndGet(10);
+    deposit(null, "10.0.0.3");
+    clock.addAndGet(10);
+    deposit(null, "10.0.0.1");
+    clock.addAndGet(10);
+
+    deposit(null, "10.0.0.4");
+
+    assertTrue(limiter.isTracked("addr:10.0.0.1"));
+    assertFalse(limiter.isTracked("addr:10.0.0.2"));
+    assertTrue(limiter.isTracked("addr:10.0.0.4"));
+  }
+
+  @DisplayName("Paths outside the ledger API are not limited")
+  @Test
+  void skipsOtherPaths() {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v3/api-docs");
+
+    assertTrue(filter.shouldNotFilter(request));
+  }
+}
@@ -0,0 +1,59 @@
+package com.my.coin.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+  private static final long SECOND = 1_000_000_000L;
+
+  @DisplayName("A full bucket admits a burst of capacity requests, then rejects with the wait time")
+  @Test
+  void admitsBurstThenRejects() {
+    TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(0, bucket.tryAcquire(0));
+    assertEquals(SECOND, bucket.tryAcquire(0));
+  }
+
+  @DisplayName("Tokens are refilled at the configured rate")
+  @Test
+  void refillsOverTime() {
+    TokenBucket bucket = new TokenBucket(1, 2, 0);
+
+    assertEquals(0, bucket.tryAcquire(0));
+    assertTrue(bucket.tryAcquire(SECOND / 4) > 0);
+    assertEquals(0, bucket.tryAcquire(SECOND / 2));
+    assertTrue(bucket.isFull(SECOND));
+  }
+
+  @DisplayName("Concurrent callers never take more tokens than the bucket holds")
+  @Test
+  void concurrentAcquireRespectsCapacity() throws InterruptedException {
+    TokenBucket bucket = new TokenBucket(1_000, 0.001, 0);
+    AtomicInteger admitted = new AtomicInteger();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+      for (int i = 0; i < 8; i++) {
+        executor.submit(() -> {
+          for (int j = 0; j < 500; j++) {
+            if (bucket.tryAcquire(0) == 0) {
+              admitted.incrementAndGet();
+            }
+          }
+        });
+      }
+    }
+
+    assertEquals(1_000, admitted.get());
+  }
+}
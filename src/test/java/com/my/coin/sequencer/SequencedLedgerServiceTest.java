@@ -0,0 +1,155 @@
+package com.my.coin.sequencer;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.service.DefaultLedgerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequencedLedgerServiceTest {
+
+  private DefaultLedgerService store;
+  private SequencedLedgerService service;
+
+  @BeforeEach
+  void setUp() {
+    store = new DefaultLedgerService();
+    store.deposit(BigDecimal.valueOf(5));
+    service = new SequencedLedgerService(store, store, new SequencerProperties(8, 4, Duration.ofSeconds(10)));
+    service.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.stop();
+  }
+
+  @DisplayName("The sequencer starts from the persisted balance and applies commands to it")
+  @Test
+  void appliesCommandsToPersistedBalance() {
+    service.deposit(BigDecimal.valueOf(10));
+    service.withdraw(BigDecimal.valueOf(12));
+
+    assertEquals(BigDecimal.valueOf(3), service.getBalance(Optional.empty()));
+    assertEquals(3, service.getTransactions().size());
+  }
+
+  @DisplayName("When withdraw an amount bigger than balance, InsufficientBalanceException is thrown")
+  @Test
+  void withdrawMoreThanBalanceThrowsException() {
+    assertThrows(InsufficientBalanceException.class, () -> service.withdraw(BigDecimal.valueOf(6)));
+    assertEquals(1, store.getTransactions().size());
+  }
+
+  @DisplayName("When deposit a negative amount, IllegalArgumentException is thrown")
+  @Test
+  void depositNegativeAmountThrowsException() {
+    assertThrows(IllegalArgumentException.class, () -> service.deposit(BigDecimal.valueOf(-1)));
+  }
+
+  @DisplayName("Concurrent withdrawals never overdraw and every accepted command is persisted")
+  @Test
+  void concurrentCommandsNeverOverdraw() {
+    AtomicInteger rejected = new AtomicInteger();
+
+    try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+      for (int i = 0; i < 400; i++) {
+        int n = i;
+        executor.submit(() -> {
+          try {
+            if (n % 2 == 0) {
+              service.deposit(BigDecimal.ONE);
+            } else {
+              service.withdraw(BigDecimal.valueOf(2));
+            }
+          } catch (InsufficientBalanceException e) {
+            rejected.incrementAndGet();
+          }
+        });
+      }
+    }
+
+    BigDecimal balance = service.getBalance(Optional.empty());
+    assertTrue(balance.signum() >= 0);
+    assertEquals(store.storedBalance(), balance);
+    assertEquals(1 + 400 - rejected.get(), store.getTransactions().size());
+  }
+
+  @DisplayName("Commands racing a stop either complete or fail, none is left waiting")
+  @Test
+  void stopNeverStrandsCommands() {
+    AtomicInteger accepted = new AtomicInteger();
+    AtomicInteger refused = new AtomicInteger();
+
+    assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+      try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+        for (int i = 0; i < 16; i++) {
+          executor.submit(() -> {
+            for (int n = 0; n < 200; n++) {
+              try {
+                service.deposit(BigDecimal.ONE);
+                accepted.incrementAndGet();
+              } catch (IllegalStateException e) {
+                refused.incrementAndGet();
+              }
+            }
+          });
+        }
+        Thread.sleep(5);
+        service.stop();
+      }
+    });
+
+    assertEquals(16 * 200, accepted.get() + refused.get());
+    assertEquals(1 + accepted.get(), store.getTransactions().size());
+  }
+
+  @DisplayName("A command that times out before the sequencer takes it is never applied, a taken one is waited for")
+  @Test
+  void timeoutOnlyAbandonsUntakenCommands() throws Exception {
+    CountDownLatch persisting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    DefaultLedgerService slowStore = new DefaultLedgerService() {
+      @Override
+      public void recordAll(List<Transaction> batch) {
+        persisting.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.recordAll(batch);
+      }
+    };
+    SequencedLedgerService slow = new SequencedLedgerService(slowStore, slowStore,
+            new SequencerProperties(8, 1, Duration.ofMillis(100)));
+    slow.start();
+    try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+      Future<?> taken = executor.submit(() -> slow.deposit(BigDecimal.ONE));
+      persisting.await();
+
+      // The sequencer is stuck persisting the first command, so this one is never taken.
+      assertThrows(IllegalStateException.class, () -> slow.deposit(BigDecimal.TEN));
+      release.countDown();
+      taken.get();
+    } finally {
+      slow.stop();
+    }
+
+    assertEquals(List.of(BigDecimal.ONE), slowStore.getTransactions().stream().map(Transaction::amount).toList());
+  }
+}
@@ -2,17 +2,22 @@ package com.my.coin.service;
 
 import com.my.coin.domain.Transaction;
 import com.my.coin.domain.TransactionType;
+import com.my.coin.exception.HistoryNotRetainedException;
 import com.my.coin.exception.InsufficientBalanceException;
+import com.my.coin.service.store.ListTransactionStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -115,4 +120,68 @@ class DefaultLedgerServiceTest {
     assertEquals(expected, actual);
   }
 
-}
\ No newline at end of file
+  @DisplayName("Only the ids already in the ledger are reported as recorded")
+  @Test
+  void recordedIdsReportsStoredOnly() {
+    Transaction stored = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN, LocalDateTime.now());
+    service.deposit(stored);
+    service.deposit(BigDecimal.ONE);
+
+    assertEquals(Set.of(stored.id()), service.recordedIds(List.of(stored.id(), UUID.randomUUID())));
+  }
+
+  @DisplayName("With a max entries retention, dropped transactions are carried forward in the balance")
+  @Test
+  void retentionCarriesDroppedTransactionsForward() {
+    DefaultLedgerService retaining = new DefaultLedgerService(new ListTransactionStore(), event -> {
+    }, new RetentionProperties(2, Duration.ZERO));
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int day = 0; day < 5; day++) {
+      retaining.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN, start.plusDays(day)));
+    }
+
+    assertEquals(2, retaining.getTransactions().size());
+    assertEquals(BigDecimal.valueOf(50), retaining.getBalance(Optional.empty()));
+    assertEquals(BigDecimal.valueOf(30), retaining.openingBalance());
+    assertEquals(BigDecimal.valueOf(20), retaining.getBalance(Optional.of(start.plusDays(3))));
+    assertThrows(HistoryNotRetainedException.class, () -> retaining.getBalance(Optional.of(start.plusDays(2))));
+  }
+
+  @DisplayName("A chunked walk starts from the opening balance of its own snapshot, even if retention moves on")
+  @Test
+  void chunkedWalkMatchesItsOpeningBalance() {
+    DefaultLedgerService retaining = new DefaultLedgerService(new ListTransactionStore(), event -> {
+    }, new RetentionProperties(3, Duration.ZERO));
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int day = 0; day < 5; day++) {
+      retaining.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN, start.plusDays(day)));
+    }
+
+    BigDecimal[] walked = new BigDecimal[1];
+    retaining.forEachChunk(2, opening -> walked[0] = opening, chunk -> {
+      // Each deposit during the walk drops one more transaction into the live opening balance.
+      retaining.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.ONE, start.plusDays(10)));
+      for (Transaction transaction : chunk) {
+        walked[0] = walked[0].add(transaction.amount());
+      }
+    });
+
+    assertEquals(BigDecimal.valueOf(50), walked[0]);
+    assertEquals(BigDecimal.valueOf(52), retaining.storedBalance());
+  }
+
+  @DisplayName("With a max age retention, transactions older than the window are dropped")
+  @Test
+  void retentionDropsTransactionsOlderThanMaxAge() {
+    DefaultLedgerService retaining = new DefaultLedgerService(new ListTransactionStore(), event -> {
+    }, new RetentionProperties(0, Duration.ofDays(30)));
+    retaining.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN,
+            LocalDateTime.now().minusDays(60)));
+    retaining.withdraw(BigDecimal.valueOf(4));
+
+    assertEquals(1, retaining.getTransactions().size());
+    assertEquals(BigDecimal.valueOf(6), retaining.getBalance(Optional.empty()));
+    assertEquals(BigDecimal.valueOf(-4), retaining.getBalance(Optional.of(LocalDateTime.now().minusDays(1))));
+  }
+
+}
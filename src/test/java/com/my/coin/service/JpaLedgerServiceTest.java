@@ -0,0 +1,169 @@
+package com.my.coin.service;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.exception.InsufficientBalanceException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaLedgerService.class, TransactionMapper.class})
+class JpaLedgerServiceTest {
+
+  @Autowired
+  private JpaLedgerService service;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @DisplayName("Deposit is persisted with a single INSERT and no SELECT")
+  @Test
+  void depositIssuesSingleInsert() {
+    service.deposit(BigDecimal.valueOf(100));
+    entityManager.flush();
+
+    assertEquals(1, statistics.getEntityInsertCount());
+    assertEquals(0, statistics.getEntityLoadCount());
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @DisplayName("Withdraw issues the balance query and a single INSERT")
+  @Test
+  void withdrawIssuesBalanceQueryAndSingleInsert() {
+    service.deposit(BigDecimal.valueOf(100));
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    service.withdraw(BigDecimal.valueOf(40));
+    entityManager.flush();
+
+    assertEquals(1, statistics.getEntityInsertCount());
+    assertEquals(2, statistics.getPrepareStatementCount());
+    assertEquals(0, BigDecimal.valueOf(60).compareTo(service.getBalance(Optional.empty())));
+  }
+
+  @DisplayName("When withdraw an amount bigger than balance, nothing is inserted")
+  @Test
+  void withdrawMoreThanBalanceInsertsNothing() {
+    assertThrows(InsufficientBalanceException.class, () -> service.withdraw(BigDecimal.valueOf(10)));
+    entityManager.flush();
+
+    assertEquals(0, statistics.getEntityInsertCount());
+  }
+
+  @DisplayName("History is projected most recent first without loading managed entities")
+  @Test
+  void getTransactionsProjectsWithoutLoadingEntities() {
+    LocalDateTime now = LocalDateTime.now();
+    Transaction older = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, new BigDecimal("10.00"), now.minusDays(1));
+    Transaction newer = new Transaction(UUID.randomUUID(), TransactionType.WITHDRAWAL, new BigDecimal("4.00"), now);
+    service.deposit(older);
+    service.deposit(newer);
+    entityManager.flush();
+    entityManager.clear();
+    statistics.clear();
+
+    List<Transaction> history = service.getTransactions();
+
+    assertEquals(List.of(newer.id(), older.id()), history.stream().map(Transaction::id).toList());
+    assertEquals(0, statistics.getEntityLoadCount());
+  }
+
+  @DisplayName("History slices cover every transaction in time order and agree with the stored balance")
+  @Test
+  void slicesCoverHistoryInOrder() {
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < 10; i++) {
+      service.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN, start.plusDays(i)));
+    }
+    service.deposit(new Transaction(UUID.randomUUID(), TransactionType.WITHDRAWAL, BigDecimal.ONE, start.plusDays(10)));
+    entityManager.flush();
+
+    List<LocalDateTime> timestamps = service.slices(3).stream()
+            .flatMap(slice -> slice.read().stream())
+            .map(Transaction::timestamp)
+            .toList();
+
+    assertEquals(11, timestamps.size());
+    assertEquals(timestamps.stream().sorted().toList(), timestamps);
+    assertEquals(0, BigDecimal.valueOf(99).compareTo(service.storedBalance()));
+  }
+
+  @DisplayName("Chunks walk the history in timestamp order, including transactions sharing a timestamp")
+  @Test
+  void forEachChunkPagesInTimestampOrder() {
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < 7; i++) {
+      service.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.ONE, start.plusDays(6 - i)));
+    }
+    service.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.ONE, start));
+    entityManager.flush();
+
+    List<Integer> sizes = new ArrayList<>();
+    List<LocalDateTime> timestamps = new ArrayList<>();
+    service.forEachChunk(3, chunk -> {
+      sizes.add(chunk.size());
+      chunk.forEach(transaction -> timestamps.add(transaction.timestamp()));
+    });
+
+    assertEquals(List.of(3, 3, 2), sizes);
+    assertEquals(timestamps.stream().sorted().toList(), timestamps);
+  }
+
+  @DisplayName("A snapshot holds the stored balance and every slice, already read")
+  @Test
+  void snapshotReadsBalanceAndSlicesTogether() {
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < 6; i++) {
+      service.deposit(new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT, BigDecimal.TEN, start.plusDays(i)));
+    }
+    entityManager.flush();
+
+    HistorySnapshot snapshot = service.snapshot(3);
+
+    assertEquals(0, BigDecimal.valueOf(60).compareTo(snapshot.storedBalance()));
+    assertEquals(0, BigDecimal.ZERO.compareTo(snapshot.openingBalance()));
+    assertEquals(6, snapshot.slices().stream().mapToInt(slice -> slice.read().size()).sum());
+  }
+
+  @DisplayName("Only ids already stored are reported as recorded")
+  @Test
+  void recordedIdsReportsStoredOnly() {
+    Transaction stored = Transaction.transactionFor(TransactionType.DEPOSIT, BigDecimal.ONE);
+    service.recordAll(List.of(stored));
+    entityManager.flush();
+
+    assertEquals(Set.of(stored.id()), service.recordedIds(List.of(stored.id(), UUID.randomUUID())));
+  }
+}
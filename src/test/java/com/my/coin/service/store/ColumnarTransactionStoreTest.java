@@ -0,0 +1,105 @@
+package com.my.coin.service.store;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarTransactionStoreTest {
+
+  private final ColumnarTransactionStore store = new ColumnarTransactionStore();
+
+  @DisplayName("Transactions are materialised exactly as they were added")
+  @Test
+  void roundTripsTransactions() {
+    Transaction deposit = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT,
+            new BigDecimal("12.345"), LocalDateTime.of(2020, 1, 31, 10, 15, 30, 123_456_789));
+    Transaction withdrawal = new Transaction(UUID.randomUUID(), TransactionType.WITHDRAWAL,
+            new BigDecimal("1E+3"), LocalDateTime.of(1969, 12, 31, 23, 59, 59, 1));
+
+    store.add(deposit);
+    store.add(withdrawal);
+
+    assertEquals(deposit, store.get(0));
+    assertEquals(withdrawal.id(), store.get(1).id());
+    assertEquals(0, withdrawal.amount().compareTo(store.get(1).amount()));
+    assertEquals(withdrawal.timestamp(), store.get(1).timestamp());
+  }
+
+  @DisplayName("Sums and history match the list store across segment boundaries")
+  @Test
+  void matchesListStoreAcrossSegments() {
+    ListTransactionStore reference = new ListTransactionStore();
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < ColumnarTransactionStore.SEGMENT_SIZE + 10; i++) {
+      Transaction transaction = new Transaction(UUID.randomUUID(),
+              i % 3 == 0 ? TransactionType.WITHDRAWAL : TransactionType.DEPOSIT,
+              BigDecimal.valueOf(i % 7 + 1, i % 3),
+              start.plusMinutes(i));
+      store.add(transaction);
+      reference.add(transaction);
+    }
+    Optional<LocalDateTime> from = Optional.of(start.plusMinutes(ColumnarTransactionStore.SEGMENT_SIZE - 5));
+
+    assertEquals(reference.size(), store.size());
+    assertEquals(reference.signedSum(Optional.empty()), store.signedSum(Optional.empty()));
+    assertEquals(reference.signedSum(from), store.signedSum(from));
+    assertEquals(reference.newestFirst(), store.newestFirst());
+  }
+
+  @DisplayName("Dropping the oldest transactions keeps both stores in step across segment boundaries")
+  @Test
+  void dropsOldestLikeListStore() {
+    ListTransactionStore reference = new ListTransactionStore();
+    LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < ColumnarTransactionStore.SEGMENT_SIZE * 2 + 10; i++) {
+      Transaction transaction = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT,
+              BigDecimal.valueOf(i % 7 + 1), start.plusMinutes(i));
+      store.add(transaction);
+      reference.add(transaction);
+      if (i % 3 == 2) {
+        store.dropOldest(2);
+        reference.dropOldest(2);
+      }
+    }
+    store.dropOldest(store.size() - 1);
+    reference.dropOldest(reference.size() - 1);
+    Transaction last = new Transaction(UUID.randomUUID(), TransactionType.WITHDRAWAL, BigDecimal.ONE, start);
+    store.add(last);
+    reference.add(last);
+
+    assertEquals(2, store.size());
+    assertEquals(reference.newestFirst(), store.newestFirst());
+    assertEquals(reference.signedSum(Optional.empty()), store.signedSum(Optional.empty()));
+  }
+
+  @DisplayName("Amounts that do not fit the columns are rejected")
+  @Test
+  void rejectsAmountsOutOfRange() {
+    Transaction tooPrecise = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT,
+            new BigDecimal("1E-19"), LocalDateTime.now());
+
+    assertThrows(IllegalArgumentException.class, () -> store.add(tooPrecise));
+    assertEquals(0, store.size());
+  }
+
+  @DisplayName("Trailing zeros beyond the column scale are dropped instead of rejecting the amount")
+  @Test
+  void acceptsTrailingZerosBeyondScale() {
+    Transaction padded = new Transaction(UUID.randomUUID(), TransactionType.DEPOSIT,
+            new BigDecimal("1.0000000000000000000"), LocalDateTime.now());
+
+    store.add(padded);
+
+    assertEquals(0, BigDecimal.ONE.compareTo(store.get(0).amount()));
+    assertEquals(0, BigDecimal.ONE.compareTo(store.signedSum(Optional.empty())));
+  }
+}
@@ -0,0 +1,98 @@
+package com.my.coin.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Runs with {@code mvn -Pfast-startup verify}: starts the packaged jar as-is and the AOT/CDS build and
+ * reports the time until each first answers {@code GET /api/ledger/balance} successfully.
+ */
+class StartupTimeIT {
+
+  private static final Logger log = LoggerFactory.getLogger(StartupTimeIT.class);
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+  private final HttpClient client = HttpClient.newBuilder()
+          .connectTimeout(Duration.ofMillis(200))
+          .build();
+
+  @Test
+  @DisplayName("Default and optimised builds both serve the balance; startup times are reported")
+  void reportsTimeToFirstBalance() throws Exception {
+    String defaultJar = System.getProperty("startup.default.jar");
+    String optimisedJar = System.getProperty("startup.optimised.jar");
+    String archive = System.getProperty("startup.optimised.archive");
+    assertTrue(new File(defaultJar).isFile(), "missing " + defaultJar);
+    assertTrue(new File(optimisedJar).isFile(), "missing " + optimisedJar);
+
+    Duration defaultStartup = timeToFirstBalance(List.of("-jar", defaultJar));
+    Duration optimisedStartup = timeToFirstBalance(List.of(
+            "-XX:SharedArchiveFile=" + archive,
+            "-Dspring.aot.enabled=true",
+            "-Dledger.startup.lazy-springdoc=true",
+            "-jar", optimisedJar));
+
+    log.info("Time to first successful /api/ledger/balance: default {} ms, optimised {} ms",
+            defaultStartup.toMillis(), optimisedStartup.toMillis());
+  }
+
+  private Duration timeToFirstBalance(List<String> launchArguments) throws Exception {
+    int port = freePort();
+    List<String> command = new ArrayList<>();
+    command.add(System.getProperty("java.home") + "/bin/java");
+    command.addAll(launchArguments);
+    command.add("--server.port=" + port);
+
+    HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/ledger/balance"))
+            .timeout(Duration.ofSeconds(1))
+            .build();
+
+    long start = System.nanoTime();
+    Process process = new ProcessBuilder(command)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .redirectError(ProcessBuilder.Redirect.DISCARD)
+            .start();
+    try {
+      while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+        if (!process.isAlive()) {
+          fail("Application exited with " + process.exitValue() + ": " + command);
+        }
+        try {
+          if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+            return Duration.ofNanos(System.nanoTime() - start);
+          }
+        } catch (IOException notListeningYet) {
+          // keep polling
+        }
+        Thread.sleep(10);
+      }
+      return fail("No successful balance response within " + TIMEOUT + ": " + command);
+    } finally {
+      process.destroy();
+      process.waitFor();
+    }
+  }
+
+  private static int freePort() throws IOException {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      return socket.getLocalPort();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.my.coin.statement;
+
+import com.my.coin.domain.Transaction;
+import com.my.coin.domain.TransactionType;
+import com.my.coin.service.DefaultLedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementGeneratorTest {
+
+  @TempDir
+  Path directory;
+
+  private DefaultLedgerService ledger;
+  private StatementGenerator generator;
+
+  @BeforeEach
+  void setUp() {
+    ledger = new DefaultLedgerService();
+    generator = new StatementGenerator(ledger,
+            new StatementProperties(true, "-", StatementPeriod.MONTH, directory, 2, Duration.ZERO));
+  }
+
+  @DisplayName("Each month's opening balance is the previous closing balance, including months without activity")
+  @Test
+  void carriesBalancesAcrossPeriods() {
+    // Recorded out of order, as an import may do.
+    record(TransactionType.DEPOSIT, "30.00", LocalDateTime.of(2024, 3, 5, 9, 0));
+    record(TransactionType.DEPOSIT, "100.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+    record(TransactionType.WITHDRAWAL, "40.00", LocalDateTime.of(2024, 1, 20, 9, 0));
+    record(TransactionType.DEPOSIT, "5.00", LocalDateTime.of(2024, 1, 31, 23, 59));
+
+    List<Statement> statements = generator.generate(LocalDate.of(2024, 5, 1));
+
+    assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1),
+            LocalDate.of(2024, 4, 1)), statements.stream().map(Statement::from).toList());
+    Statement january = statements.getFirst();
+    assertEquals(0, BigDecimal.ZERO.compareTo(january.openingBalance()));
+    assertEquals(0, new BigDecimal("105.00").compareTo(january.deposits()));
+    assertEquals(0, new BigDecimal("40.00").compareTo(january.withdrawals()));
+    assertEquals(3, january.transactions());
+    for (int i = 1; i < statements.size(); i++) {
+      assertEquals(statements.get(i - 1).closingBalance(), statements.get(i).openingBalance());
+    }
+    assertEquals(0, new BigDecimal("95.00").compareTo(statements.getLast().closingBalance()));
+  }
+
+  @DisplayName("The period still in progress is left out")
+  @Test
+  void skipsOpenPeriod() {
+    record(TransactionType.DEPOSIT, "10.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+    record(TransactionType.DEPOSIT, "20.00", LocalDateTime.of(2024, 2, 10, 9, 0));
+
+    List<Statement> statements = generator.generate(LocalDate.of(2024, 2, 15));
+
+    assertEquals(1, statements.size());
+    assertFalse(Files.exists(directory.resolve("statement-2024-02.txt")));
+  }
+
+  @DisplayName("Statements are written to one file per period and existing files are kept")
+  @Test
+  void writesStatementFiles() throws Exception {
+    record(TransactionType.DEPOSIT, "10.00", LocalDateTime.of(2024, 1, 10, 9, 0));
+    record(TransactionType.WITHDRAWAL, "4.00", LocalDateTime.of(2024, 2, 10, 9, 0));
+    Files.writeString(directory.resolve("statement-2024-01.txt"), "already sent");
+
+    generator.generate(LocalDate.of(2024, 3, 1));
+
+    assertEquals("already sent", Files.readString(directory.resolve("statement-2024-01.txt")));
+    List<String> february = Files.readAllLines(directory.resolve("statement-2024-02.txt"));
+    assertEquals("Opening balance: 10.00", february.get(1));
+    assertTrue(february.get(3).endsWith(",WITHDRAWAL,4.00,6.00"), february.get(3));
+    assertEquals("Closing balance: 6.00", february.get(6));
+    try (var files = Files.list(directory)) {
+      assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+    }
+  }
+
+  private void record(TransactionType type, String amount, LocalDateTime timestamp) {
+    ledger.deposit(new Transaction(UUID.randomUUID(), type, new BigDecimal(amount), timestamp));
+  }
+}